@@ -0,0 +1,69 @@
+package lt.calendar.reminders.application.holiday;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayClientAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * isPublicHoliday against a warm year index, cycling through every day of the year, with holidays coming from
+ * the Nager adapter and its cache as in production; plus the cache hit on its own, which the service pays
+ * whenever it rechecks an index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayServiceBenchmark {
+
+    private NagerHolidayClientAdapter provider;
+    private HolidayService holidayService;
+
+    private LocalDate[] dates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        provider = PrewarmedNagerAdapter.create(2026, 2026);
+        holidayService = new HolidayService(provider, new SimpleMeterRegistry());
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        dates = new LocalDate[start.lengthOfYear()];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = start.plusDays(i);
+        }
+        holidayService.isPublicHoliday(start);
+    }
+
+    @Benchmark
+    public boolean isPublicHoliday() {
+        LocalDate date = dates[next];
+        next = (next + 1) % dates.length;
+        return holidayService.isPublicHoliday(date);
+    }
+
+    @Benchmark
+    public List<PublicHoliday> cachedProviderList() {
+        return provider.getPublicHolidays("LT", 2026);
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.shutdown();
+    }
+}
@@ -0,0 +1,48 @@
+package lt.calendar.reminders.application.holiday;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.infrastructure.holiday.cache.HolidaySnapshotStore;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayClientAdapter;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayProperties;
+import lt.calendar.reminders.infrastructure.holiday.nager.OfflineHolidayProvider;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * The production holiday path for the benchmarks: a Nager adapter whose cache is seeded from a snapshot file
+ * with the Lithuanian holidays of the given years, so every lookup is a cache hit and nothing goes to the network.
+ */
+final class PrewarmedNagerAdapter {
+
+    private PrewarmedNagerAdapter() {
+    }
+
+    static NagerHolidayClientAdapter create(int fromYear, int toYear) {
+        Path snapshot;
+        try {
+            snapshot = Files.createTempFile("holiday-benchmark", ".bin");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        snapshot.toFile().deleteOnExit();
+
+        Clock clock = Clock.systemUTC();
+        OfflineHolidayProvider offline = new OfflineHolidayProvider();
+        HolidaySnapshotStore store = new HolidaySnapshotStore(snapshot, offline.getDefaultCountryCode());
+        for (int year = fromYear; year <= toYear; year++) {
+            store.save(year, offline.getPublicHolidays(year), clock.instant());
+        }
+
+        NagerHolidayProperties properties = new NagerHolidayProperties();
+        properties.setCountryCode(offline.getDefaultCountryCode());
+        properties.setSnapshotPath(snapshot.toString());
+        // a miss would fail fast rather than measure a remote call
+        properties.setBaseUrl("http://127.0.0.1:9");
+        return new NagerHolidayClientAdapter(new RestTemplate(), properties, new SimpleMeterRegistry(), clock);
+    }
+}
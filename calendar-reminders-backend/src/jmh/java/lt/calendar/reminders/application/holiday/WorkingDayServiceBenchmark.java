@@ -0,0 +1,95 @@
+package lt.calendar.reminders.application.holiday;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayClientAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Date plus N working days": walking day by day with isPublicHoliday versus the prefix sums of
+ * WorkingDayService, starting from every day of a year in turn. Holidays come from the Nager adapter and its
+ * cache as in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkingDayServiceBenchmark {
+
+    private NagerHolidayClientAdapter provider;
+    private HolidayService holidayService;
+    private WorkingDayService workingDayService;
+
+    @Param({"5", "250", "500"})
+    private int days;
+
+    private LocalDate[] starts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // 500 working days from the last start reach well into 2027
+        provider = PrewarmedNagerAdapter.create(2025, 2028);
+        holidayService = new HolidayService(provider, new SimpleMeterRegistry());
+        workingDayService = new WorkingDayService(holidayService, new SimpleMeterRegistry());
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        starts = new LocalDate[start.lengthOfYear()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = start.plusDays(i);
+        }
+        // build the year indexes outside the measurement
+        if (!walk(start, days).equals(workingDayService.addWorkingDays(start, days))) {
+            throw new IllegalStateException("Day-by-day walk and prefix sums disagree");
+        }
+    }
+
+    @Benchmark
+    public LocalDate dayByDayWalk() {
+        return walk(nextStart(), days);
+    }
+
+    @Benchmark
+    public LocalDate prefixSums() {
+        return workingDayService.addWorkingDays(nextStart(), days);
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.shutdown();
+    }
+
+    private LocalDate nextStart() {
+        LocalDate start = starts[next];
+        next = (next + 1) % starts.length;
+        return start;
+    }
+
+    private LocalDate walk(LocalDate from, int days) {
+        LocalDate date = from;
+        for (int remaining = days; remaining > 0; ) {
+            date = date.plusDays(1);
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY
+                    && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                    && !holidayService.isPublicHoliday(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+}
@@ -0,0 +1,41 @@
+package lt.calendar.reminders.application.reminder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * isWithinAllowedRange as called for every created or moved reminder; reads the system clock each time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultDateRangePolicyBenchmark {
+
+    private final DefaultDateRangePolicy policy = new DefaultDateRangePolicy(Clock.systemDefaultZone());
+    private final LocalDate inRange = LocalDate.now().plusMonths(3);
+    private final LocalDate outOfRange = LocalDate.now().plusYears(2);
+
+    @Benchmark
+    public boolean isWithinAllowedRange() {
+        return policy.isWithinAllowedRange(inRange);
+    }
+
+    @Benchmark
+    public boolean isWithinAllowedRange_outOfRange() {
+        return policy.isWithinAllowedRange(outOfRange);
+    }
+}
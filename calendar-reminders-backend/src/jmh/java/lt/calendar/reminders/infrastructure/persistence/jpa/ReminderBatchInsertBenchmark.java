@@ -0,0 +1,90 @@
+package lt.calendar.reminders.infrastructure.persistence.jpa;
+
+import lt.calendar.reminders.CalendarRemindersBackendApplication;
+import lt.calendar.reminders.application.reminder.DateRangePolicy;
+import lt.calendar.reminders.application.reminder.ReminderService;
+import lt.calendar.reminders.domain.reminder.Reminder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Reminder inserts per second through the application on H2: one transaction per reminder
+ * (the POST /reminders path importers used) versus one batched transaction (POST /reminders/batch).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReminderBatchInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    private ConfigurableApplicationContext context;
+    private ReminderService reminderService;
+    private SpringDataReminderRepository springDataReminderRepository;
+    private List<Reminder> reminders;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CalendarRemindersBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run();
+        reminderService = context.getBean(ReminderService.class);
+        springDataReminderRepository = context.getBean(SpringDataReminderRepository.class);
+
+        LocalDate date = context.getBean(DateRangePolicy.class).getMinDate().plusDays(30);
+        reminders = IntStream.range(0, ROWS)
+                .mapToObj(i -> Reminder.builder()
+                        .text("Benchmark reminder " + i)
+                        .date(date)
+                        .time(LocalTime.ofSecondOfDay(i % 86_400))
+                        .build())
+                .toList();
+    }
+
+    // keeps the table from growing across iterations
+    @TearDown(Level.Iteration)
+    public void deleteInserted() {
+        springDataReminderRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleInserts() {
+        reminders.forEach(reminderService::createReminder);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Reminder> batch() {
+        return reminderService.createReminders(reminders);
+    }
+}
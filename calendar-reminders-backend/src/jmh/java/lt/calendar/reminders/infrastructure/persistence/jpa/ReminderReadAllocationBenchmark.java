@@ -0,0 +1,112 @@
+package lt.calendar.reminders.infrastructure.persistence.jpa;
+
+import jakarta.persistence.EntityManager;
+import lt.calendar.reminders.CalendarRemindersBackendApplication;
+import lt.calendar.reminders.application.reminder.DateRangePolicy;
+import lt.calendar.reminders.application.reminder.ReminderService;
+import lt.calendar.reminders.domain.reminder.Reminder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Reading one day of 2000 reminders on H2, per returned row: managed entities copied into Reminder
+ * (the previous read path) versus the constructor projection used by ReminderRepositoryAdapter.
+ * Compare gc.alloc.rate.norm for the bytes allocated per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReminderReadAllocationBenchmark {
+
+    private static final int ROWS = 2_000;
+
+    private ConfigurableApplicationContext context;
+    private ReminderRepositoryAdapter reminderRepositoryAdapter;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CalendarRemindersBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run();
+        reminderRepositoryAdapter = context.getBean(ReminderRepositoryAdapter.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        date = context.getBean(DateRangePolicy.class).getMinDate().plusDays(40);
+        context.getBean(ReminderService.class).createReminders(IntStream.range(0, ROWS)
+                .mapToObj(i -> Reminder.builder()
+                        .text("Benchmark reminder " + i)
+                        .date(date)
+                        .time(LocalTime.ofSecondOfDay(i % 86_400))
+                        .build())
+                .toList());
+        if (managedEntities().size() != ROWS || projection().size() != ROWS) {
+            throw new IllegalStateException("Expected " + ROWS + " reminders on " + date);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Reminder> managedEntities() {
+        return readOnly.execute(status -> readThroughEntities(date));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Reminder> projection() {
+        return readOnly.execute(status -> reminderRepositoryAdapter.findByDate(date));
+    }
+
+    // the read path before projections: managed entities, then a builder copy per row
+    private List<Reminder> readThroughEntities(LocalDate date) {
+        return entityManager.createQuery(
+                        "select r from ReminderEntity r where r.reminderDate = :date order by r.reminderTime, r.id",
+                        ReminderEntity.class)
+                .setParameter("date", date)
+                .getResultStream()
+                .map(entity -> Reminder.builder()
+                        .id(entity.getId())
+                        .text(entity.getReminderText())
+                        .date(entity.getReminderDate())
+                        .time(entity.getReminderTime())
+                        .createdAt(entity.getCreatedAt())
+                        .updatedAt(entity.getUpdatedAt())
+                        .version(entity.getVersion())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package lt.calendar.reminders.infrastructure.persistence.jpa;
+
+import lt.calendar.reminders.domain.reminder.Reminder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to domain and domain to entity conversion done by the adapter on every read and write.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReminderRepositoryAdapterBenchmark {
+
+    private Reminder reminder;
+    private ReminderEntity entity;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 9, 0);
+        reminder = Reminder.builder()
+                .id(42L)
+                .text("Call insurance")
+                .date(LocalDate.of(2026, 2, 1))
+                .time(LocalTime.of(14, 30))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .version(0L)
+                .build();
+        entity = ReminderRepositoryAdapter.toEntity(reminder);
+    }
+
+    @Benchmark
+    public ReminderEntity toEntity() {
+        return ReminderRepositoryAdapter.toEntity(reminder);
+    }
+
+    @Benchmark
+    public Reminder toDomain() {
+        return ReminderRepositoryAdapter.toDomain(entity);
+    }
+}
@@ -0,0 +1,63 @@
+package lt.calendar.reminders.util.jfr;
+
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the begin/finish pair around a repository query, with no recording running
+ * (the normal case) and while an in-memory recording has the event enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReminderQueryEventBenchmark {
+
+    @Param({"false", "true"})
+    private boolean recording;
+
+    private final LocalDate date = LocalDate.of(2026, 3, 11);
+    private Recording jfr;
+
+    @Setup
+    public void setUp() {
+        if (recording) {
+            jfr = new Recording();
+            jfr.enable(ReminderQueryEvent.class).withoutThreshold();
+            jfr.setToDisk(false);
+            jfr.setMaxSize(16 * 1024 * 1024);
+            jfr.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (jfr != null) {
+            jfr.close();
+        }
+    }
+
+    // the event stays local, as in the adapter, so escape analysis can drop it when disabled
+    @Benchmark
+    public void queryEvent() {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        event.finish("findByDate", date, 3);
+    }
+}
@@ -0,0 +1,70 @@
+package lt.calendar.reminders.web.reminder.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a reminder list as returned by GET /reminders, sized from one reminder
+ * up to the maximum page. The mapper is built the same way Spring Boot builds its default one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReminderResponseSerializationBenchmark {
+
+    @Param({"1", "100", "500"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<ReminderResponse> responses;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ReminderResponse.class));
+
+        LocalDate date = LocalDate.of(2026, 2, 1);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 9, 0);
+        responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ReminderResponse response = new ReminderResponse();
+            response.setId((long) i + 1);
+            response.setText("Reminder number " + i);
+            response.setDate(date.plusDays(i % 30));
+            response.setTime(LocalTime.of(8 + i % 12, i % 60));
+            response.setCreatedAt(createdAt);
+            response.setUpdatedAt(createdAt);
+            response.setVersion(0L);
+            responses.add(response);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+}
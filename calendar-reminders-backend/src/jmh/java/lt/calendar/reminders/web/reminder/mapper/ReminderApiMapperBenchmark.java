@@ -0,0 +1,66 @@
+package lt.calendar.reminders.web.reminder.mapper;
+
+import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.web.reminder.dto.ReminderRequest;
+import lt.calendar.reminders.web.reminder.dto.ReminderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request to domain and domain to response conversion of a single reminder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReminderApiMapperBenchmark {
+
+    private final ReminderApiMapper mapper = new ReminderApiMapper();
+
+    private ReminderRequest request;
+    private Reminder reminder;
+
+    @Setup
+    public void setUp() {
+        request = new ReminderRequest();
+        request.setText("Call insurance");
+        request.setDate(LocalDate.of(2026, 2, 1));
+        request.setTime(LocalTime.of(14, 30));
+
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 9, 0);
+        reminder = Reminder.builder()
+                .id(42L)
+                .text("Call insurance")
+                .date(LocalDate.of(2026, 2, 1))
+                .time(LocalTime.of(14, 30))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .version(0L)
+                .build();
+    }
+
+    @Benchmark
+    public Reminder toDomain() {
+        return mapper.toDomain(request);
+    }
+
+    @Benchmark
+    public ReminderResponse toResponse() {
+        return mapper.toResponse(reminder);
+    }
+}
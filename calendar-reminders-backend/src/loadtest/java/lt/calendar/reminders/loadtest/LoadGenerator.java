@@ -0,0 +1,118 @@
+package lt.calendar.reminders.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are started on a fixed schedule of {@code rate} per second, each on its own
+ * virtual thread, whether or not earlier ones have answered. Latency is measured from the scheduled start
+ * rather than the actual send, so a stalled server shows up in the percentiles instead of silently lowering
+ * the request rate (coordinated omission).
+ * Requests scheduled during the warm-up are sent but not recorded.
+ */
+public class LoadGenerator {
+
+    // latencies are recorded in microseconds, up to one hour with 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final Duration INTERRUPTED_RECORD_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ReminderApiTarget target;
+    private final RequestMix mix;
+    private final int rate;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public LoadGenerator(ReminderApiTarget target, RequestMix mix, int rate) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        this.target = target;
+        this.mix = mix;
+        this.rate = rate;
+        for (Operation operation : mix.weights().keySet()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Runs warm-up plus measurement, then waits up to {@code drainTimeout} for requests still in flight.
+     * Requests interrupted after that are recorded as errors, with their latency up to the interruption.
+     *
+     * @return measured wall time, from the end of the warm-up until the last recorded request finished
+     */
+    public Duration run(Duration warmup, Duration duration, Duration drainTimeout) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (long i = 0; ; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                if (scheduledAt >= end) {
+                    break;
+                }
+                parkUntil(scheduledAt);
+                Operation operation = mix.next();
+                boolean recorded = scheduledAt >= measureFrom;
+                executor.execute(() -> send(operation, scheduledAt, recorded));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        if (!executor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            // interrupted requests record themselves as errors; give them a moment to do so
+            executor.shutdownNow();
+            executor.awaitTermination(INTERRUPTED_RECORD_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return Duration.ofNanos(System.nanoTime() - measureFrom);
+    }
+
+    private void send(Operation operation, long scheduledAt, boolean recorded) {
+        boolean success;
+        try {
+            success = target.execute(operation);
+        } catch (InterruptedException ex) {
+            // still in flight at the drain timeout: an error that took at least this long
+            Thread.currentThread().interrupt();
+            success = false;
+        } catch (Exception ex) {
+            success = false;
+        }
+        if (!recorded) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+        latencies.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    public Map<Operation, Histogram> latencies() {
+        return latencies;
+    }
+
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+}
@@ -0,0 +1,69 @@
+package lt.calendar.reminders.loadtest;
+
+import lt.calendar.reminders.CalendarRemindersBackendApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drives a fixed-rate request mix against the backend and reports HdrHistogram latency percentiles.
+ * Configured through system properties:
+ * <ul>
+ *     <li>{@code loadtest.url} - backend to target; when empty the backend is started in this JVM with the
+ *     {@code dev,nagerstub} profiles on a random port, so holidays come from the local Nager stand-in</li>
+ *     <li>{@code loadtest.rate} - requests started per second (default 200)</li>
+ *     <li>{@code loadtest.warmup} / {@code loadtest.duration} - e.g. {@code 10s} / {@code 60s}</li>
+ *     <li>{@code loadtest.mix} - operation weights, e.g. {@code read=80,create=15,delete=5,holidays=0}</li>
+ *     <li>{@code loadtest.output} - directory for the JSON summary and {@code .hgrm} files (default target/loadtest)</li>
+ * </ul>
+ */
+public class LoadTestMain {
+
+    private static final Duration READINESS_TIMEOUT = Duration.ofMinutes(2);
+    // longer than the per-request timeout, so a request only gets cut off if the client itself hangs
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(40);
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("loadtest.url", "").trim();
+        int rate = Integer.parseInt(System.getProperty("loadtest.rate", "200"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "60s"));
+        RequestMix mix = RequestMix.parse(System.getProperty("loadtest.mix", "read=80,create=15,delete=5"));
+        Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest"));
+
+        ConfigurableApplicationContext context = null;
+        if (url.isEmpty()) {
+            context = startBackend();
+            url = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            ReminderApiTarget target = new ReminderApiTarget(URI.create(url));
+            target.prepare(READINESS_TIMEOUT);
+
+            LocalDateTime startedAt = LocalDateTime.now();
+            LoadGenerator generator = new LoadGenerator(target, mix, rate);
+            Duration measuredTime = generator.run(warmup, duration, DRAIN_TIMEOUT);
+
+            LoadTestReport report = LoadTestReport.of(
+                    startedAt, url, mix, rate, warmup, duration, measuredTime, generator);
+            report.print(System.out);
+            System.out.println("Results written to " + report.write(output, generator));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startBackend() {
+        return SpringApplication.run(CalendarRemindersBackendApplication.class,
+                "--spring.profiles.active=dev,nagerstub",
+                "--server.port=0",
+                "--spring.jpa.show-sql=false");
+    }
+}
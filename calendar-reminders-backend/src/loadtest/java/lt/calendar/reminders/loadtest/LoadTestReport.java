@@ -0,0 +1,121 @@
+package lt.calendar.reminders.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Summary of one load-test run. Written as {@code loadtest-<timestamp>.json} for comparing runs, plus one
+ * HdrHistogram percentile distribution ({@code .hgrm}) per operation that can be plotted side by side.
+ */
+public record LoadTestReport(
+        LocalDateTime startedAt,
+        String target,
+        String mix,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        double achievedThroughput,
+        Map<String, OperationStats> operations
+) {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String TOTAL = "total";
+
+    /**
+     * Latencies in milliseconds, from the scheduled start of each request.
+     */
+    public record OperationStats(
+            long count,
+            long errors,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs
+    ) {
+
+        static OperationStats of(Histogram histogram, long errors) {
+            return new OperationStats(
+                    histogram.getTotalCount(),
+                    errors,
+                    histogram.getMean() / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI);
+        }
+    }
+
+    public static LoadTestReport of(LocalDateTime startedAt, String target, RequestMix mix, int rate,
+                                    Duration warmup, Duration duration, Duration measuredTime,
+                                    LoadGenerator generator) {
+        Map<String, OperationStats> operations = new LinkedHashMap<>();
+        Histogram total = null;
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Histogram> entry : generator.latencies().entrySet()) {
+            long errors = generator.errors(entry.getKey());
+            operations.put(entry.getKey().key(), OperationStats.of(entry.getValue(), errors));
+            total = (total == null) ? entry.getValue().copy() : add(total, entry.getValue());
+            totalErrors += errors;
+        }
+        operations.put(TOTAL, OperationStats.of(total, totalErrors));
+        double throughput = total.getTotalCount() / (measuredTime.toNanos() / 1e9);
+        return new LoadTestReport(startedAt, target, mix.toString(), rate, warmup, duration, throughput, operations);
+    }
+
+    private static Histogram add(Histogram total, Histogram histogram) {
+        total.add(histogram);
+        return total;
+    }
+
+    /**
+     * Writes the JSON summary and the per-operation distributions into {@code directory}.
+     *
+     * @return path of the JSON summary
+     */
+    public Path write(Path directory, LoadGenerator generator) throws IOException {
+        Files.createDirectories(directory);
+        String baseName = "loadtest-" + startedAt.format(FILE_TIMESTAMP);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        Path summary = directory.resolve(baseName + ".json");
+        objectMapper.writeValue(summary.toFile(), this);
+
+        for (Map.Entry<Operation, Histogram> entry : generator.latencies().entrySet()) {
+            Path distribution = directory.resolve(baseName + "-" + entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        return summary;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Target %s, mix %s, %d req/s scheduled, %.1f req/s completed%n",
+                target, mix, rate, achievedThroughput);
+        out.printf("%-10s %9s %7s %9s %9s %9s %9s %9s%n", "operation", "count", "errors", "p50 ms", "p90 ms",
+                "p99 ms", "p99.9 ms", "max ms");
+        operations.forEach((name, stats) -> out.printf("%-10s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, stats.count(), stats.errors(), stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(),
+                stats.maxMs()));
+    }
+}
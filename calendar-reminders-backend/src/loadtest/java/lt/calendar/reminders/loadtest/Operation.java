@@ -0,0 +1,32 @@
+package lt.calendar.reminders.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Request kinds the load generator can send, named as in the {@code loadtest.mix} property.
+ */
+public enum Operation {
+
+    READ("read"),
+    CREATE("create"),
+    DELETE("delete"),
+    HOLIDAYS("holidays");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown operation '" + key + "', expected one of " + Arrays.toString(values())));
+    }
+}
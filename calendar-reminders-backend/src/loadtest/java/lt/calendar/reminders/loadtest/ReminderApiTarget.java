@@ -0,0 +1,126 @@
+package lt.calendar.reminders.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sends one {@link Operation} to a running backend and reports whether it succeeded.
+ * Reads and creates use the first {@value #HOT_DAYS} days of the allowed range, so reads find the created reminders;
+ * deletes take ids created earlier in the run and read a day instead while none are left.
+ */
+public class ReminderApiTarget {
+
+    private static final int HOT_DAYS = 30;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    private LocalDate firstDay;
+    private int holidayYear;
+
+    public ReminderApiTarget(URI baseUri) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Waits for the readiness probe, then reads the allowed date range the requests are spread over.
+     */
+    public void prepare(Duration readinessTimeout) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + readinessTimeout.toNanos();
+        while (!isReady()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(baseUri + " was not ready within " + readinessTimeout);
+            }
+            Thread.sleep(500);
+        }
+        HttpResponse<String> range = httpClient.send(get("/reminders/range"), HttpResponse.BodyHandlers.ofString());
+        firstDay = LocalDate.parse(objectMapper.readTree(range.body()).get("minDate").asText());
+        holidayYear = firstDay.getYear();
+    }
+
+    private boolean isReady() throws InterruptedException {
+        try {
+            return status(get("/actuator/health/readiness")) == 200;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    public boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case READ -> isSuccess(status(get("/reminders?date=" + randomHotDay())));
+            case CREATE -> create();
+            case DELETE -> delete();
+            case HOLIDAYS -> isSuccess(status(get("/holidays?year=" + holidayYear)));
+        };
+    }
+
+    private boolean create() throws IOException, InterruptedException {
+        String body = objectMapper.createObjectNode()
+                .put("text", "Load test reminder")
+                .put("date", randomHotDay().toString())
+                .put("time", LocalTime.of(ThreadLocalRandom.current().nextInt(24), 0).toString())
+                .toString();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/reminders"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (!isSuccess(response.statusCode())) {
+            return false;
+        }
+        JsonNode created = objectMapper.readTree(response.body());
+        createdIds.add(created.get("id").asLong());
+        return true;
+    }
+
+    private boolean delete() throws IOException, InterruptedException {
+        Long id = createdIds.poll();
+        if (id == null) {
+            return isSuccess(status(get("/reminders?date=" + randomHotDay())));
+        }
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/reminders/" + id))
+                .timeout(REQUEST_TIMEOUT)
+                .DELETE()
+                .build();
+        return isSuccess(status(request));
+    }
+
+    private LocalDate randomHotDay() {
+        return firstDay.plus(ThreadLocalRandom.current().nextInt(HOT_DAYS), ChronoUnit.DAYS);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private int status(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+}
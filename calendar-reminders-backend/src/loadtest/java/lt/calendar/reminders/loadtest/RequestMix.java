@@ -0,0 +1,73 @@
+package lt.calendar.reminders.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted choice of the next operation, parsed from {@code read=80,create=15,delete=5}.
+ */
+public class RequestMix {
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private RequestMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static RequestMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] keyAndWeight = part.split("=");
+            if (keyAndWeight.length != 2) {
+                throw new IllegalArgumentException("Mix entry must look like name=weight: '" + part + "'");
+            }
+            int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight must not be negative: '" + part + "'");
+            }
+            if (weight > 0) {
+                weights.merge(Operation.fromKey(keyAndWeight[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one positive weight: '" + spec + "'");
+        }
+        return new RequestMix(weights);
+    }
+
+    public Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    public Map<Operation, Integer> weights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder spec = new StringBuilder();
+        weights.forEach((operation, weight) -> {
+            if (!spec.isEmpty()) {
+                spec.append(',');
+            }
+            spec.append(operation.key()).append('=').append(weight);
+        });
+        return spec.toString();
+    }
+}
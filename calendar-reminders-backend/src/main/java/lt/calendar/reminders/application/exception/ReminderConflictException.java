@@ -0,0 +1,8 @@
+package lt.calendar.reminders.application.exception;
+
+public class ReminderConflictException extends RuntimeException {
+
+    public ReminderConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,49 +1,164 @@
 package lt.calendar.reminders.application.holiday;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
 import lt.calendar.reminders.domain.holiday.HolidayProviderPort;
 import lt.calendar.reminders.domain.holiday.PublicHoliday;
-import lt.calendar.reminders.util.MyStopWatch;
+import lt.calendar.reminders.util.MethodTimers;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class HolidayService {
 
+    public static final int MAX_CHECK_DATES = 1000;
+
+    // indexes are cheap to rebuild, so past this many the map is simply cleared
+    private static final int MAX_INDEXED_YEARS = 512;
+    private static final Pattern COUNTRY_CODE = Pattern.compile("[A-Z]{2}");
+    // how long a year index is used without asking the provider, whose cache lookup costs more than the check
+    static final Duration INDEX_RECHECK = Duration.ofSeconds(1);
+
     private final HolidayProviderPort holidayProviderPort;
+    private final MethodTimers timers;
+    // a bitset lookup takes nanoseconds, less than reading the clock twice, so single checks are only counted
+    private final Counter holidayChecks;
+
+    private final long indexRecheckNanos;
+
+    private final Map<CountryYear, CheckedIndex> indexByCountryYear = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HolidayService(HolidayProviderPort holidayProviderPort, MeterRegistry meterRegistry) {
+        this(holidayProviderPort, meterRegistry, INDEX_RECHECK);
+    }
+
+    HolidayService(HolidayProviderPort holidayProviderPort, MeterRegistry meterRegistry, Duration indexRecheck) {
+        this.holidayProviderPort = holidayProviderPort;
+        this.indexRecheckNanos = indexRecheck.toNanos();
+        this.timers = new MethodTimers(meterRegistry, HolidayService.class);
+        this.holidayChecks = Counter.builder("holiday.checks")
+                .description("Single-date public holiday checks")
+                .register(meterRegistry);
+    }
 
     public List<PublicHoliday> getPublicHolidays(int year) {
-        log.debug("Fetching public holidays for year {}", year);
-        MyStopWatch stopWatch = new MyStopWatch();
+        return getPublicHolidays(null, year);
+    }
 
-        List<PublicHoliday> holidays = Optional
-                .ofNullable(holidayProviderPort.getPublicHolidays(year))
-                .orElseGet(List::of);
+    /**
+     * Holidays of the given country (ISO 3166-1 alpha-2, any case); null or blank means the default country.
+     */
+    public List<PublicHoliday> getPublicHolidays(String countryCode, int year) {
+        String country = resolveCountryCode(countryCode);
+        log.debug("Fetching public holidays for {} year {}", country, year);
+        long startNanos = System.nanoTime();
 
-        log.debug("Fetched {} public holidays for year {} in {} ms",
-                holidays.size(), year, stopWatch.stopAndGetMillis());
+        List<PublicHoliday> holidays = fetch(country, year);
+
+        log.debug("Fetched {} public holidays for {} year {} in {} ms",
+                holidays.size(), country, year, timers.record("getPublicHolidays", startNanos));
 
         return holidays;
     }
 
     public boolean isPublicHoliday(LocalDate date) {
         Objects.requireNonNull(date, "date must not be null");
-        int year = date.getYear();
-        log.debug("Checking if date {} is a public holiday (year {})", date, year);
-        MyStopWatch stopWatch = new MyStopWatch();
-        boolean isHoliday = Optional
-                .ofNullable(holidayProviderPort.getPublicHolidays(year))
-                .orElseGet(List::of)
-                .stream()
-                .anyMatch(holiday -> date.equals(holiday.date()));
-        log.debug("Date {} public holiday result: {}; in {} ms", date, isHoliday, stopWatch.stopAndGetMillis());
+        holidayChecks.increment();
+        boolean isHoliday = getYearIndex(date.getYear()).isHoliday(date);
+        log.debug("Date {} public holiday result: {}", date, isHoliday);
         return isHoliday;
     }
+
+    public Map<LocalDate, Boolean> checkPublicHolidays(List<LocalDate> dates) {
+        return checkPublicHolidays(null, dates);
+    }
+
+    /**
+     * Holiday flag for each distinct date, in request order; each year involved is looked up once.
+     */
+    public Map<LocalDate, Boolean> checkPublicHolidays(String countryCode, List<LocalDate> dates) {
+        Objects.requireNonNull(dates, "dates must not be null");
+        if (dates.isEmpty() || dates.size() > MAX_CHECK_DATES) {
+            throw new BusinessRuleViolationException("Number of dates must be between 1 and " + MAX_CHECK_DATES);
+        }
+        String country = resolveCountryCode(countryCode);
+
+        long startNanos = System.nanoTime();
+        Map<LocalDate, Boolean> result = new LinkedHashMap<>();
+        HolidayYearIndex index = null;
+        for (LocalDate date : dates) {
+            Objects.requireNonNull(date, "date must not be null");
+            if (index == null || index.year() != date.getYear()) {
+                index = yearIndex(country, date.getYear());
+            }
+            result.put(date, index.isHoliday(date));
+        }
+        log.debug("Checked {} dates for {} public holidays in {} ms", dates.size(), country, timers.record("checkPublicHolidays", startNanos));
+        return result;
+    }
+
+    /**
+     * Bitset index of the default country's holidays in the year.
+     */
+    public HolidayYearIndex getYearIndex(int year) {
+        return yearIndex(holidayProviderPort.getDefaultCountryCode(), year);
+    }
+
+    // reused for INDEX_RECHECK, then the provider is asked again and the index rebuilt only for a different list
+    private HolidayYearIndex yearIndex(String country, int year) {
+        CountryYear key = new CountryYear(country, year);
+        CheckedIndex checked = indexByCountryYear.get(key);
+        long now = System.nanoTime();
+        if (checked != null && now - checked.checkedAt() < indexRecheckNanos) {
+            return checked.index();
+        }
+
+        List<PublicHoliday> holidays = fetch(country, year);
+        HolidayYearIndex index = (checked != null && checked.index().isBuiltFrom(holidays))
+                ? checked.index()
+                : HolidayYearIndex.of(year, holidays);
+        if (checked == null && indexByCountryYear.size() >= MAX_INDEXED_YEARS) {
+            indexByCountryYear.clear();
+        }
+        indexByCountryYear.put(key, new CheckedIndex(index, now));
+        return index;
+    }
+
+    private List<PublicHoliday> fetch(String country, int year) {
+        return Optional
+                .ofNullable(holidayProviderPort.getPublicHolidays(country, year))
+                .orElseGet(List::of);
+    }
+
+    private String resolveCountryCode(String countryCode) {
+        if (countryCode == null || countryCode.isBlank()) {
+            return holidayProviderPort.getDefaultCountryCode();
+        }
+        String normalized = countryCode.trim().toUpperCase(Locale.ROOT);
+        if (!COUNTRY_CODE.matcher(normalized).matches()) {
+            throw new BusinessRuleViolationException("Country code must be a two-letter ISO 3166-1 code");
+        }
+        return normalized;
+    }
+
+    private record CountryYear(String countryCode, int year) {
+    }
+
+    private record CheckedIndex(HolidayYearIndex index, long checkedAt) {
+    }
 }
\ No newline at end of file
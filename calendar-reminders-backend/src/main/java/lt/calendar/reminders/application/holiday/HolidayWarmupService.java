@@ -0,0 +1,114 @@
+package lt.calendar.reminders.application.holiday;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.application.reminder.DateRangePolicy;
+import lt.calendar.reminders.application.reminder.ReminderDateRange;
+import lt.calendar.reminders.domain.holiday.HolidayProviderPort;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import lt.calendar.reminders.util.MethodTimers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/*
+ *   Loads the holidays of every year the allowed date range touches before users ask for them.
+ *   Disabled with calendar.holidays.warmup.enabled=false
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(
+        prefix = "calendar.holidays.warmup",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class HolidayWarmupService {
+
+    private static final Duration WARMUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HolidayProviderPort holidayProviderPort;
+    private final DateRangePolicy dateRangePolicy;
+    private final MethodTimers timers;
+
+    // one virtual thread per year: the work is a blocking HTTP call, not CPU
+    private final ThreadFactory warmupThreads = Thread.ofVirtual().name("holiday-warmup-", 0).factory();
+
+    private volatile boolean warm;
+
+    public HolidayWarmupService(HolidayProviderPort holidayProviderPort,
+                                DateRangePolicy dateRangePolicy,
+                                MeterRegistry meterRegistry) {
+        this.holidayProviderPort = holidayProviderPort;
+        this.dateRangePolicy = dateRangePolicy;
+        this.timers = new MethodTimers(meterRegistry, HolidayWarmupService.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        warmupThreads.newThread(this::warmUp).start();
+    }
+
+    // the range moves at midnight and may reach into a new year
+    @Scheduled(cron = "${calendar.holidays.warmup.cron:30 0 0 * * *}")
+    public void rollForward() {
+        warmUp();
+    }
+
+    /**
+     * Fetches all years of the current range concurrently and waits for them (bounded by a timeout).
+     * Counts as warm afterwards even if a year failed: the holiday cache then retries on its own,
+     * and readiness must not depend on the remote API being up.
+     *
+     * @return years that came back with holidays
+     */
+    public List<Integer> warmUp() {
+        ReminderDateRange range = dateRangePolicy.getCurrentRange();
+        List<Integer> years = IntStream.rangeClosed(range.minDate().getYear(), range.maxDate().getYear())
+                .boxed()
+                .toList();
+
+        log.info("Warming up holidays for years {}", years);
+        long startNanos = System.nanoTime();
+
+        List<CompletableFuture<List<PublicHoliday>>> fetches = years.stream()
+                .map(year -> CompletableFuture.supplyAsync(
+                        () -> holidayProviderPort.getPublicHolidays(year),
+                        task -> warmupThreads.newThread(task).start()))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new))
+                    .orTimeout(WARMUP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException ex) {
+            log.warn("Holiday warm-up did not fully complete: {}", ex.getMessage());
+        }
+
+        List<Integer> warmed = IntStream.range(0, years.size())
+                .filter(i -> {
+                    CompletableFuture<List<PublicHoliday>> fetch = fetches.get(i);
+                    return fetch.isDone() && !fetch.isCompletedExceptionally() && !fetch.join().isEmpty();
+                })
+                .mapToObj(years::get)
+                .toList();
+
+        warm = true;
+        log.info("Holiday warm-up finished in {} ms, years with holidays: {}", timers.record("warmUp", startNanos), warmed);
+        return warmed;
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+}
@@ -0,0 +1,108 @@
+package lt.calendar.reminders.application.holiday;
+
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Public holidays of one year as a day-of-year bitset, so a membership check is one bit lookup,
+ * plus a prefix sum of working days (not a weekend, not a holiday) for working-day arithmetic.
+ * Remembers the list it was built from, so a refreshed provider list is noticed by identity.
+ */
+public final class HolidayYearIndex {
+
+    private final int year;
+    private final List<PublicHoliday> source;
+    // bit (dayOfYear - 1) is set for every holiday
+    private final BitSet holidayDays;
+    // workingDaysThrough[i] = working days among day-of-year 1..i; index 0 is 0
+    private final int[] workingDaysThrough;
+
+    private HolidayYearIndex(int year, List<PublicHoliday> source, BitSet holidayDays) {
+        this.year = year;
+        this.source = source;
+        this.holidayDays = holidayDays;
+
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        int length = firstDay.lengthOfYear();
+        int firstDayOfWeek = firstDay.getDayOfWeek().getValue();
+        this.workingDaysThrough = new int[length + 1];
+        for (int day = 1; day <= length; day++) {
+            // ISO day of week, 6 and 7 are the weekend
+            int dayOfWeek = (firstDayOfWeek + day - 2) % 7 + 1;
+            boolean working = dayOfWeek < 6 && !holidayDays.get(day - 1);
+            workingDaysThrough[day] = workingDaysThrough[day - 1] + (working ? 1 : 0);
+        }
+    }
+
+    public static HolidayYearIndex of(int year, List<PublicHoliday> holidays) {
+        Objects.requireNonNull(holidays, "holidays must not be null");
+
+        BitSet days = new BitSet(366);
+        for (PublicHoliday holiday : holidays) {
+            if (holiday != null && holiday.date() != null && holiday.date().getYear() == year) {
+                days.set(holiday.date().getDayOfYear() - 1);
+            }
+        }
+        return new HolidayYearIndex(year, holidays, days);
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidayDays.get(dayOfYear(date) - 1);
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        int day = dayOfYear(date);
+        return workingDaysThrough[day] > workingDaysThrough[day - 1];
+    }
+
+    public int workingDaysInYear() {
+        return workingDaysThrough[workingDaysThrough.length - 1];
+    }
+
+    /**
+     * Working days from 1 January up to and including the given date.
+     */
+    public int workingDaysThrough(LocalDate date) {
+        return workingDaysThrough[dayOfYear(date)];
+    }
+
+    /**
+     * The n-th working day of the year (1-based), found by binary search over the prefix sums.
+     */
+    public LocalDate nthWorkingDay(int n) {
+        if (n < 1 || n > workingDaysInYear()) {
+            throw new IllegalArgumentException("Year " + year + " has no working day number " + n);
+        }
+        // first day whose running count reaches n
+        int low = 1;
+        int high = workingDaysThrough.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (workingDaysThrough[mid] < n) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return LocalDate.ofYearDay(year, low);
+    }
+
+    boolean isBuiltFrom(List<PublicHoliday> holidays) {
+        return source == holidays;
+    }
+
+    private int dayOfYear(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("Date " + date + " is not in year " + year);
+        }
+        return date.getDayOfYear();
+    }
+}
@@ -0,0 +1,127 @@
+package lt.calendar.reminders.application.holiday;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.util.MethodTimers;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Working-day arithmetic (weekends and public holidays are days off) on top of the per-year
+ * prefix sums in {@link HolidayYearIndex}: one lookup per year involved instead of a walk over every day.
+ */
+@Slf4j
+@Service
+public class WorkingDayService {
+
+    public static final int MAX_SPAN_YEARS = 10;
+    public static final int MAX_WORKING_DAYS = 2500;
+    // the years the offline holiday table covers; beyond them the year arithmetic can also leave LocalDate's range
+    public static final int MIN_YEAR = 2003;
+    public static final int MAX_YEAR = 2150;
+
+    private final HolidayService holidayService;
+    private final MethodTimers timers;
+
+    public WorkingDayService(HolidayService holidayService, MeterRegistry meterRegistry) {
+        this.holidayService = holidayService;
+        this.timers = new MethodTimers(meterRegistry, WorkingDayService.class);
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        Objects.requireNonNull(date, "date must not be null");
+        requireSupportedYear(date);
+        return holidayService.getYearIndex(date.getYear()).isWorkingDay(date);
+    }
+
+    /**
+     * The date that is {@code days} working days after (or before, when negative) the given date.
+     * The given date itself is never counted; zero returns it unchanged.
+     */
+    public LocalDate addWorkingDays(LocalDate date, int days) {
+        Objects.requireNonNull(date, "date must not be null");
+        if (Math.abs(days) > MAX_WORKING_DAYS) {
+            throw new BusinessRuleViolationException("Number of working days must be between -"
+                    + MAX_WORKING_DAYS + " and " + MAX_WORKING_DAYS);
+        }
+        requireSupportedYear(date);
+        if (days == 0) {
+            return date;
+        }
+
+        long startNanos = System.nanoTime();
+        int year = date.getYear();
+        HolidayYearIndex index = holidayService.getYearIndex(year);
+        // position of the wanted working day, counted from 1 January of the current year
+        int target;
+        if (days > 0) {
+            target = index.workingDaysThrough(date) + days;
+            while (target > index.workingDaysInYear()) {
+                target -= index.workingDaysInYear();
+                index = holidayService.getYearIndex(requireSupportedYear(++year));
+            }
+        } else {
+            int workingDaysBefore = index.workingDaysThrough(date) - (index.isWorkingDay(date) ? 1 : 0);
+            target = workingDaysBefore + days + 1;
+            while (target < 1) {
+                index = holidayService.getYearIndex(requireSupportedYear(--year));
+                target += index.workingDaysInYear();
+            }
+        }
+
+        LocalDate result = index.nthWorkingDay(target);
+        log.debug("{} {} working days = {}; in {} ms", date, days, result, timers.record("addWorkingDays", startNanos));
+        return result;
+    }
+
+    /**
+     * Working days after {@code from} up to and including {@code to}; negative when {@code to} is earlier.
+     * So {@code addWorkingDays(from, countWorkingDays(from, to))} is {@code to} whenever {@code to} is a working day.
+     */
+    public int countWorkingDays(LocalDate from, LocalDate to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        requireSupportedYear(from);
+        requireSupportedYear(to);
+        if (to.isBefore(from)) {
+            return -countWorkingDays(to, from);
+        }
+        if (to.getYear() - from.getYear() > MAX_SPAN_YEARS) {
+            throw new BusinessRuleViolationException("Date range must not span more than " + MAX_SPAN_YEARS + " years");
+        }
+
+        long startNanos = System.nanoTime();
+        HolidayYearIndex fromIndex = holidayService.getYearIndex(from.getYear());
+        int count;
+        if (from.getYear() == to.getYear()) {
+            count = fromIndex.workingDaysThrough(to) - fromIndex.workingDaysThrough(from);
+        } else {
+            count = fromIndex.workingDaysInYear() - fromIndex.workingDaysThrough(from);
+            for (int year = from.getYear() + 1; year < to.getYear(); year++) {
+                count += holidayService.getYearIndex(year).workingDaysInYear();
+            }
+            count += holidayService.getYearIndex(to.getYear()).workingDaysThrough(to);
+        }
+        log.debug("Working days from {} to {}: {}; in {} ms", from, to, count, timers.record("countWorkingDays", startNanos));
+        return count;
+    }
+
+    private static void requireSupportedYear(LocalDate date) {
+        if (date.getYear() < MIN_YEAR || date.getYear() > MAX_YEAR) {
+            throw new BusinessRuleViolationException("Date " + date + " is outside the supported years "
+                    + MIN_YEAR + "-" + MAX_YEAR);
+        }
+    }
+
+    // addWorkingDays can walk out of the supported years even from a supported date
+    private static int requireSupportedYear(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new BusinessRuleViolationException("Result falls outside the supported years "
+                    + MIN_YEAR + "-" + MAX_YEAR);
+        }
+        return year;
+    }
+}
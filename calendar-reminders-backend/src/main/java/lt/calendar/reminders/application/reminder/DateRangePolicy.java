@@ -1,11 +1,17 @@
 package lt.calendar.reminders.application.reminder;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
 public interface DateRangePolicy {
 
     ReminderDateRange getCurrentRange();
 
+    /**
+     * How much longer {@code range} (taken from {@link #getCurrentRange()}) stays current, never negative.
+     */
+    Duration getRemainingValidity(ReminderDateRange range);
+
 
     default boolean isWithinAllowedRange(LocalDate date) {
         ReminderDateRange range = getCurrentRange();
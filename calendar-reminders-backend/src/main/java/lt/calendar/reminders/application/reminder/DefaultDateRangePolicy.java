@@ -3,7 +3,9 @@ package lt.calendar.reminders.application.reminder;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 
 @Component
 public class DefaultDateRangePolicy implements DateRangePolicy {
@@ -23,4 +25,12 @@ public class DefaultDateRangePolicy implements DateRangePolicy {
         LocalDate today = today();
         return new ReminderDateRange(today, today.plusYears(1));
     }
+
+    // the range moves at the next local midnight after its first day
+    @Override
+    public Duration getRemainingValidity(ReminderDateRange range) {
+        ZonedDateTime nextMidnight = range.minDate().plusDays(1).atStartOfDay(clock.getZone());
+        Duration remaining = Duration.between(clock.instant(), nextMidnight.toInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
 }
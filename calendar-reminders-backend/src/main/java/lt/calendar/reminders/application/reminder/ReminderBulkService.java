@@ -0,0 +1,113 @@
+package lt.calendar.reminders.application.reminder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.domain.reminder.ReminderChunkDeletion;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
+import lt.calendar.reminders.util.MethodTimers;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Set-based reminder operations. Each runs as a few DML statements, never loading entities.
+ * Range deletes walk the rows that exist in keyset chunks committed one by one, so no statement holds locks for long.
+ */
+@Slf4j
+@Service
+public class ReminderBulkService {
+
+    public static final int CHUNK_ROWS = 500;
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final ReminderRepositoryPort reminderRepositoryPort;
+    private final DateRangePolicy dateRangePolicy;
+    private final ReminderOccupancyIndex occupancyIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final MethodTimers timers;
+
+    public ReminderBulkService(ReminderRepositoryPort reminderRepositoryPort,
+                               DateRangePolicy dateRangePolicy,
+                               ReminderOccupancyIndex occupancyIndex,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.reminderRepositoryPort = reminderRepositoryPort;
+        this.dateRangePolicy = dateRangePolicy;
+        this.occupancyIndex = occupancyIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timers = new MethodTimers(meterRegistry, ReminderBulkService.class);
+    }
+
+    /**
+     * Deletes all reminders with date in [from, to], at most {@link #MAX_RANGE_DAYS} days.
+     * Rows go in (date, time, id) order, {@link #CHUNK_ROWS} per transaction, so the work follows the rows
+     * that exist: empty days cost nothing and one heavy day is still split.
+     *
+     * @return total number of deleted reminders
+     */
+    public int deleteRemindersBetween(LocalDate from, LocalDate to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        if (from.isAfter(to)) {
+            throw new BusinessRuleViolationException("'from' date must not be after 'to' date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessRuleViolationException("Date range must not span more than " + MAX_RANGE_DAYS + " days");
+        }
+
+        log.debug("Bulk deleting reminders from {} to {}", from, to);
+        long startNanos = System.nanoTime();
+
+        int deleted = 0;
+        ReminderCursor after = null;
+        ReminderChunkDeletion chunk;
+        do {
+            ReminderCursor chunkAfter = after;
+            chunk = transactionTemplate.execute(
+                    status -> reminderRepositoryPort.deleteByDateRange(from, to, chunkAfter, CHUNK_ROWS));
+            if (chunk == null || chunk.selected().isEmpty()) {
+                break;
+            }
+            // committed at this point; rows someone else deleted in between were counted down by them
+            chunk.deletedByDay().forEach(day -> occupancyIndex.decrement(day.date(), day.count()));
+            deleted += chunk.deleted();
+            after = chunk.last();
+        } while (chunk.selected().size() == CHUNK_ROWS);
+
+        log.debug("Bulk deleted {} reminders from {} to {} in {} ms", deleted, from, to, timers.record("deleteRemindersBetween", startNanos));
+        return deleted;
+    }
+
+    /**
+     * Moves every reminder on {@code from} to {@code to} with one UPDATE statement.
+     * The target date must be inside the allowed range.
+     *
+     * @return number of moved reminders
+     */
+    public int rescheduleReminders(LocalDate from, LocalDate to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        if (!dateRangePolicy.isWithinAllowedRange(to)) {
+            throw new BusinessRuleViolationException("Reminder date is outside the allowed range");
+        }
+        if (from.equals(to)) {
+            return 0;
+        }
+
+        log.debug("Rescheduling reminders from {} to {}", from, to);
+        long startNanos = System.nanoTime();
+
+        Integer moved = transactionTemplate.execute(status -> reminderRepositoryPort.moveToDate(from, to));
+        int result = (moved != null) ? moved : 0;
+        occupancyIndex.move(from, to, result);
+
+        log.debug("Rescheduled {} reminders from {} to {} in {} ms", result, from, to, timers.record("rescheduleReminders", startNanos));
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package lt.calendar.reminders.application.reminder;
+
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory per-day reminder counters, so the calendar overview never has to touch reminder rows.
+ * Only days with at least one reminder are kept; range lookups are O(log n + days returned).
+ * Every change to a day also bumps that day's version, which backs the per-day ETags.
+ */
+@Component
+public class ReminderOccupancyIndex {
+
+    private final ConcurrentSkipListMap<LocalDate, Long> countsByDate = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<LocalDate, Long> versionsByDate = new ConcurrentHashMap<>();
+    // versions restart from zero, so tags from an earlier run must never match
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public void rebuild(List<ReminderDayCount> dayCounts) {
+        countsByDate.clear();
+        dayCounts.stream()
+                .filter(dayCount -> dayCount.count() > 0)
+                .forEach(dayCount -> countsByDate.put(dayCount.date(), dayCount.count()));
+    }
+
+    public void increment(LocalDate date) {
+        countsByDate.merge(date, 1L, Long::sum);
+        touch(date);
+    }
+
+    public void decrement(LocalDate date) {
+        decrement(date, 1);
+    }
+
+    public void decrement(LocalDate date, long removed) {
+        // returning null drops the day once it has no reminders left
+        countsByDate.computeIfPresent(date, (d, count) -> count > removed ? count - removed : null);
+        touch(date);
+    }
+
+    public void clear(LocalDate date) {
+        countsByDate.remove(date);
+        touch(date);
+    }
+
+    /**
+     * Moves {@code moved} reminders, the count the UPDATE reported, rather than whatever this instance counted.
+     */
+    public void move(LocalDate from, LocalDate to, long moved) {
+        if (moved > 0) {
+            countsByDate.computeIfPresent(from, (d, count) -> count > moved ? count - moved : null);
+            countsByDate.merge(to, moved, Long::sum);
+        }
+        touch(from);
+        touch(to);
+    }
+
+    /**
+     * Opaque tag that changes whenever the reminders of {@code date} change, e.g. "m3k2x1a0.4".
+     */
+    public String dayVersionTag(LocalDate date) {
+        return epoch + "." + versionsByDate.getOrDefault(date, 0L);
+    }
+
+    public List<ReminderDayCount> countsBetween(LocalDate from, LocalDate to) {
+        return countsByDate.subMap(from, true, to, true)
+                .entrySet()
+                .stream()
+                .map(entry -> new ReminderDayCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public long totalCount() {
+        return countsByDate.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public int dayCount() {
+        return countsByDate.size();
+    }
+
+    private void touch(LocalDate date) {
+        versionsByDate.merge(date, 1L, Long::sum);
+    }
+}
@@ -0,0 +1,19 @@
+package lt.calendar.reminders.application.reminder;
+
+import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+
+import java.util.List;
+
+/**
+ * One keyset page of reminders. {@code nextCursor} is null when there are no more rows.
+ */
+public record ReminderPage(
+        List<Reminder> reminders,
+        ReminderCursor nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
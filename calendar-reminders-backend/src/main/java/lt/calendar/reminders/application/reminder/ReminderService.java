@@ -1,52 +1,185 @@
 package lt.calendar.reminders.application.reminder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.application.exception.ReminderConflictException;
 import lt.calendar.reminders.application.exception.ReminderNotFoundException;
 import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
 import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
-import lombok.RequiredArgsConstructor;
-import lt.calendar.reminders.util.MyStopWatch;
+import lt.calendar.reminders.domain.reminder.ReminderVersion;
+import lt.calendar.reminders.util.AfterCommit;
+import lt.calendar.reminders.util.DateTimeProvider;
+import lt.calendar.reminders.util.MethodTimers;
+import lt.calendar.reminders.util.jfr.ReminderServiceEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReminderService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    // open-ended bounds for list queries, kept inside what every supported DB can store
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
     private final ReminderRepositoryPort reminderRepositoryPort;
     private final DateRangePolicy dateRangePolicy;
+    private final ReminderOccupancyIndex occupancyIndex;
+    private final MethodTimers timers;
+
+    public ReminderService(ReminderRepositoryPort reminderRepositoryPort,
+                           DateRangePolicy dateRangePolicy,
+                           ReminderOccupancyIndex occupancyIndex,
+                           MeterRegistry meterRegistry) {
+        this.reminderRepositoryPort = reminderRepositoryPort;
+        this.dateRangePolicy = dateRangePolicy;
+        this.occupancyIndex = occupancyIndex;
+        this.timers = new MethodTimers(meterRegistry, ReminderService.class);
+    }
+
+    @PostConstruct
+    public void rebuildOccupancyIndex() {
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        List<ReminderDayCount> dayCounts = reminderRepositoryPort.countByDate();
+        occupancyIndex.rebuild(dayCounts);
+        event.finish("rebuildOccupancyIndex", null, dayCounts.size());
+        log.info("Rebuilt reminder occupancy index with {} days in {} ms", dayCounts.size(), timers.record("rebuildOccupancyIndex", startNanos));
+    }
+
+    /**
+     * Per-day reminder counts between from and to (inclusive), served from the in-memory index.
+     * Missing bounds default to the currently allowed date range.
+     */
+    public List<ReminderDayCount> getOccupancy(LocalDate from, LocalDate to) {
+        ReminderDateRange range = dateRangePolicy.getCurrentRange();
+        LocalDate resolvedFrom = (from != null) ? from : range.minDate();
+        LocalDate resolvedTo = (to != null) ? to : range.maxDate();
+
+        if (resolvedFrom.isAfter(resolvedTo)) {
+            throw new BusinessRuleViolationException("'from' date must not be after 'to' date");
+        }
+
+        return occupancyIndex.countsBetween(resolvedFrom, resolvedTo);
+    }
+
+    /**
+     * Version tag of one day's reminders, answered from memory so unchanged days can be revalidated
+     * without loading any rows. Read it before the reminders: a write in between only makes the tag stale.
+     */
+    public String getDayVersionTag(LocalDate date) {
+        Objects.requireNonNull(date, "date must not be null");
+        return occupancyIndex.dayVersionTag(date);
+    }
 
     @Transactional(readOnly = true)
-    public List<Reminder> getAllReminders() {
-        log.debug("Fetching all reminders");
-        MyStopWatch stopWatch = new MyStopWatch();
-        List<Reminder> all = reminderRepositoryPort.findAll();
-        log.debug("Fetched all reminders in {} ms", stopWatch.stopAndGetMillis());
+    public ReminderPage getReminders(LocalDate from, LocalDate to, ReminderCursor after, int limit) {
+        LocalDate resolvedFrom = (from != null) ? from : EARLIEST_DATE;
+        LocalDate resolvedTo = (to != null) ? to : LATEST_DATE;
+
+        if (resolvedFrom.isAfter(resolvedTo)) {
+            throw new BusinessRuleViolationException("'from' date must not be after 'to' date");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessRuleViolationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        log.debug("Fetching reminders page from {} to {} after {} (limit {})", resolvedFrom, resolvedTo, after, limit);
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+
+        // one extra row tells us whether another page exists without a count query
+        List<Reminder> rows = reminderRepositoryPort.findPage(resolvedFrom, resolvedTo, after, limit + 1);
 
-        return all;
+        boolean hasNext = rows.size() > limit;
+        List<Reminder> reminders = hasNext ? rows.subList(0, limit) : rows;
+        ReminderCursor nextCursor = hasNext ? ReminderCursor.of(reminders.get(reminders.size() - 1)) : null;
+
+        event.finish("getReminders", from, reminders.size());
+        log.debug("Fetched {} reminders (hasNext={}) in {} ms", reminders.size(), hasNext, timers.record("getReminders", startNanos));
+
+        return new ReminderPage(reminders, nextCursor);
     }
 
     @Transactional(readOnly = true)
     public List<Reminder> getRemindersForDate(LocalDate date) {
         Objects.requireNonNull(date, "date must not be null");
 
-        MyStopWatch stopWatch = new MyStopWatch();
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
 
         List<Reminder> reminders = reminderRepositoryPort.findByDate(date);
 
+        event.finish("getRemindersForDate", date, reminders.size());
         log.debug("Fetched {} reminders for date {} in {} ms",
-                reminders.size(), date, stopWatch.stopAndGetMillis());
+                reminders.size(), date, timers.record("getRemindersForDate", startNanos));
+
+        return reminders;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Reminder> getRemindersByIds(Collection<Long> ids) {
+        validateBatchSize(ids);
+
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        List<Reminder> reminders = reminderRepositoryPort.findAllById(ids);
+        event.finish("getRemindersByIds", null, reminders.size());
+        log.debug("Fetched {} reminders for {} ids in {} ms", reminders.size(), ids.size(), timers.record("getRemindersByIds", startNanos));
+
+        return reminders;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Reminder> getRemindersByDates(Collection<LocalDate> dates) {
+        validateBatchSize(dates);
+
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        List<Reminder> reminders = reminderRepositoryPort.findByDates(dates);
+        event.finish("getRemindersByDates", null, reminders.size());
+        log.debug("Fetched {} reminders for {} dates in {} ms", reminders.size(), dates.size(), timers.record("getRemindersByDates", startNanos));
 
         return reminders;
     }
 
+    /**
+     * Streams all reminders to {@code sink} inside one read-only transaction.
+     */
+    @Transactional(readOnly = true)
+    public long exportReminders(Consumer<Reminder> sink) {
+        Objects.requireNonNull(sink, "sink must not be null");
+
+        log.debug("Exporting all reminders");
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        long exported = reminderRepositoryPort.streamAll(sink);
+        event.finish("exportReminders", null, exported);
+        log.debug("Exported {} reminders in {} ms", exported, timers.record("exportReminders", startNanos));
+
+        return exported;
+    }
+
     @Transactional
     public Reminder createReminder(Reminder reminder) {
         Objects.requireNonNull(reminder, "Reminder must not be null");
@@ -54,60 +187,178 @@ public class ReminderService {
         log.debug("Creating reminder for date {}", reminder.getDate());
         validateReminderDate(reminder.getDate());
 
-        MyStopWatch stopWatch = new MyStopWatch();
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
         Reminder created = reminderRepositoryPort.save(reminder);
+        AfterCommit.run(() -> occupancyIndex.increment(created.getDate()));
 
-        log.debug("Created reminder for date {} in {} ms", created.getDate(), stopWatch.stopAndGetMillis());
+        event.finish("createReminder", created.getDate(), 1);
+        log.debug("Created reminder for date {} in {} ms", created.getDate(), timers.record("createReminder", startNanos));
         return created;
     }
 
+    /**
+     * Creates all reminders in one transaction, or none of them if any date is outside the allowed range.
+     */
     @Transactional
-    public Reminder updateReminder(Long id, Reminder updated) {
-        Objects.requireNonNull(updated, "Updated reminder must not be null");
+    public List<Reminder> createReminders(List<Reminder> reminders) {
+        validateBatchSize(reminders);
 
-        log.debug("Updating reminder with id {}", id);
-        MyStopWatch stopWatch = new MyStopWatch();
+        log.debug("Creating {} reminders in batch", reminders.size());
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
 
-        Reminder existing = reminderRepositoryPort.findById(id)
-                .orElseThrow(() -> new ReminderNotFoundException("Reminder not found with id: " + id));
+        // one range snapshot for the whole batch, so all items are judged against the same day
+        ReminderDateRange range = dateRangePolicy.getCurrentRange();
+        List<Integer> invalidIndexes = new ArrayList<>();
+        for (int i = 0; i < reminders.size(); i++) {
+            LocalDate date = Objects.requireNonNull(reminders.get(i), "Reminder must not be null").getDate();
+            Objects.requireNonNull(date, "Reminder date is required");
+            if (date.isBefore(range.minDate()) || date.isAfter(range.maxDate())) {
+                invalidIndexes.add(i);
+            }
+        }
+        if (!invalidIndexes.isEmpty()) {
+            throw new BusinessRuleViolationException(
+                    "Reminder date is outside the allowed range at indexes " + invalidIndexes);
+        }
+
+        List<Reminder> created = reminderRepositoryPort.saveAll(reminders);
+        AfterCommit.run(() -> created.forEach(reminder -> occupancyIndex.increment(reminder.getDate())));
+
+        event.finish("createReminders", null, created.size());
+        log.debug("Created {} reminders in {} ms", created.size(), timers.record("createReminders", startNanos));
+        return created;
+    }
+
+    @Transactional
+    public Reminder updateReminder(Long id, Reminder updated) {
+        return updateReminder(id, updated, null);
+    }
 
+    /**
+     * Updates text, date and time with one conditional UPDATE that also returns the row as it was.
+     * With a single If-Match version that is the only statement; otherwise a lightweight version lookup
+     * picks the version to condition on.
+     *
+     * @param expectedVersions versions the client accepts (If-Match), or null to accept any version
+     */
+    @Transactional
+    public Reminder updateReminder(Long id, Reminder updated, Collection<Long> expectedVersions) {
+        Objects.requireNonNull(updated, "Updated reminder must not be null");
         validateReminderDate(updated.getDate());
 
-        Reminder toSave = Reminder.builder()
-                .id(existing.getId())
+        log.debug("Updating reminder with id {} (expected versions {})", id, expectedVersions);
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+
+        long expectedVersion = expectedVersion(id, expectedVersions);
+        Reminder changes = Reminder.builder()
+                .id(id)
                 .text(updated.getText())
                 .date(updated.getDate())
                 .time(updated.getTime())
-                .createdAt(existing.getCreatedAt())
-                .updatedAt(existing.getUpdatedAt())
+                .updatedAt(DateTimeProvider.now())
+                .version(expectedVersion + 1)
                 .build();
 
-        Reminder saved = reminderRepositoryPort.save(toSave);
+        ReminderVersion previous = reminderRepositoryPort.updateIfVersion(changes, expectedVersion)
+                .orElseThrow(() -> staleOrMissing(id, expectedVersions));
+        Reminder saved = Reminder.builder()
+                .id(id)
+                .text(changes.getText())
+                .date(changes.getDate())
+                .time(changes.getTime())
+                .createdAt(previous.createdAt())
+                .updatedAt(changes.getUpdatedAt())
+                .version(changes.getVersion())
+                .build();
+        AfterCommit.run(() -> {
+            occupancyIndex.decrement(previous.date());
+            occupancyIndex.increment(saved.getDate());
+        });
 
-        log.debug("Updated reminder in {} ms", stopWatch.stopAndGetMillis());
+        event.finish("updateReminder", saved.getDate(), 1);
+        log.debug("Updated reminder in {} ms", timers.record("updateReminder", startNanos));
         return saved;
     }
 
     @Transactional
     public void deleteReminder(Long id) {
-        log.debug("Deleting reminder with id {}", id);
-        MyStopWatch stopWatch = new MyStopWatch();
+        deleteReminder(id, null);
+    }
+
+    /**
+     * Deletes one reminder with a conditional DELETE that also returns the deleted row; like
+     * {@link #updateReminder(Long, Reminder, Collection)} it is the only statement for a single If-Match version.
+     *
+     * @param expectedVersions versions the client accepts (If-Match), or null to accept any version
+     */
+    @Transactional
+    public void deleteReminder(Long id, Collection<Long> expectedVersions) {
+        log.debug("Deleting reminder with id {} (expected versions {})", id, expectedVersions);
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
 
-        reminderRepositoryPort.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Reminder not found with id: " + id));
+        ReminderVersion deleted = reminderRepositoryPort.deleteIfVersion(id, expectedVersion(id, expectedVersions))
+                .orElseThrow(() -> staleOrMissing(id, expectedVersions));
+        AfterCommit.run(() -> occupancyIndex.decrement(deleted.date()));
 
-        reminderRepositoryPort.deleteById(id);
-        log.debug("Deleted reminder with id {} in {} ms", id, stopWatch.stopAndGetMillis());
+        event.finish("deleteReminder", deleted.date(), 1);
+        log.debug("Deleted reminder with id {} in {} ms", id, timers.record("deleteReminder", startNanos));
     }
 
     @Transactional
-    public void deleteRemindersByDate(LocalDate date) {
+    public int deleteRemindersByDate(LocalDate date) {
         Objects.requireNonNull(date, "date must not be null");
 
         log.debug("Deleting reminders for date {}", date);
-        MyStopWatch stopWatch = new MyStopWatch();
-        reminderRepositoryPort.deleteByDate(date);
-        log.debug("Deleted reminders for date {} in {} ms", date, stopWatch.stopAndGetMillis());
+        ReminderServiceEvent event = new ReminderServiceEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        int deleted = reminderRepositoryPort.deleteByDate(date);
+        AfterCommit.run(() -> occupancyIndex.clear(date));
+        event.finish("deleteRemindersByDate", date, deleted);
+        log.debug("Deleted {} reminders for date {} in {} ms", deleted, date, timers.record("deleteRemindersByDate", startNanos));
+
+        return deleted;
+    }
+
+    // a single If-Match version is conditioned on as is; any other case needs the current version first
+    private long expectedVersion(Long id, Collection<Long> expectedVersions) {
+        if (expectedVersions != null && expectedVersions.size() == 1) {
+            return expectedVersions.iterator().next();
+        }
+        return findCurrentVersion(id, expectedVersions).version();
+    }
+
+    // the conditional write matched no row: one lookup tells a missing reminder from a changed one
+    private ReminderConflictException staleOrMissing(Long id, Collection<Long> expectedVersions) {
+        findCurrentVersion(id, expectedVersions);
+        return new ReminderConflictException("Reminder with id " + id + " was modified concurrently");
+    }
+
+    private ReminderVersion findCurrentVersion(Long id, Collection<Long> expectedVersions) {
+        ReminderVersion current = reminderRepositoryPort.findVersionById(id)
+                .orElseThrow(() -> new ReminderNotFoundException("Reminder not found with id: " + id));
+
+        if (expectedVersions != null && !expectedVersions.contains(current.version())) {
+            throw new ReminderConflictException("Reminder with id " + id + " has version " + current.version()
+                    + ", expected one of " + expectedVersions);
+        }
+        return current;
+    }
+
+    private void validateBatchSize(Collection<?> items) {
+        Objects.requireNonNull(items, "items must not be null");
+
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new BusinessRuleViolationException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
     }
 
     private void validateReminderDate(LocalDate date) {
@@ -1,8 +1,22 @@
 package lt.calendar.reminders.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayProperties;
+import lt.calendar.reminders.infrastructure.http.CircuitBreaker;
+import lt.calendar.reminders.infrastructure.http.ResilientHttpInterceptor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Clock;
@@ -10,9 +24,64 @@ import java.time.Clock;
 @Configuration
 public class RestTemplateConfig {
 
+    /*
+     *   Keep-alive pool for the Nager API; connections are revalidated after 10s idle and closed after 30s idle
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager nagerConnectionManager(NagerHolidayProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient nagerHttpClient(PoolingHttpClientConnectionManager nagerConnectionManager,
+                                               NagerHolidayProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(nagerConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getBulkheadMaxWait()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                // failures go to the circuit breaker and the holiday cache backoff, not into silent retries
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public ResilientHttpInterceptor nagerResilienceInterceptor(NagerHolidayProperties properties,
+                                                               Clock clock,
+                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                "nager",
+                properties.getCircuitFailureThreshold(),
+                properties.getCircuitOpenDuration(),
+                clock);
+        return new ResilientHttpInterceptor(
+                "nager",
+                properties.getMaxConcurrentCalls(),
+                properties.getBulkheadMaxWait(),
+                circuitBreaker,
+                meterRegistry.getIfAvailable());
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     CloseableHttpClient nagerHttpClient,
+                                     ResilientHttpInterceptor nagerResilienceInterceptor) {
+        RestTemplate restTemplate = builder
+                .additionalInterceptors(nagerResilienceInterceptor)
+                .build();
+        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(nagerHttpClient));
+        return restTemplate;
     }
 
     @Bean
@@ -4,6 +4,15 @@ import java.util.List;
 
 public interface HolidayProviderPort {
 
-    List<PublicHoliday> getPublicHolidays(int year);
+    /**
+     * Public holidays of the country (ISO 3166-1 alpha-2, upper case) in the given year.
+     */
+    List<PublicHoliday> getPublicHolidays(String countryCode, int year);
+
+    String getDefaultCountryCode();
+
+    default List<PublicHoliday> getPublicHolidays(int year) {
+        return getPublicHolidays(getDefaultCountryCode(), year);
+    }
 
 }
\ No newline at end of file
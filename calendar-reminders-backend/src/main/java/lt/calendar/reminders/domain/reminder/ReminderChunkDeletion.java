@@ -0,0 +1,26 @@
+package lt.calendar.reminders.domain.reminder;
+
+import java.util.List;
+
+/**
+ * One chunk of a range delete: the positions that were selected, and per day how many rows the DELETE removed.
+ * Fewer deleted than selected means another request deleted some of them in between.
+ */
+public record ReminderChunkDeletion(
+        List<ReminderCursor> selected,
+        List<ReminderDayCount> deletedByDay
+) {
+
+    public static final ReminderChunkDeletion EMPTY = new ReminderChunkDeletion(List.of(), List.of());
+
+    public int deleted() {
+        return (int) deletedByDay.stream().mapToLong(ReminderDayCount::count).sum();
+    }
+
+    /**
+     * Where the next chunk starts, or null when nothing was selected.
+     */
+    public ReminderCursor last() {
+        return selected.isEmpty() ? null : selected.get(selected.size() - 1);
+    }
+}
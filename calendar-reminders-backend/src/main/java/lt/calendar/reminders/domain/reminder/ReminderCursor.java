@@ -0,0 +1,26 @@
+package lt.calendar.reminders.domain.reminder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Keyset position in the (date, time, id) ordering of reminders.
+ * Points at the last reminder of a page; the next page starts strictly after it.
+ */
+public record ReminderCursor(
+        LocalDate date,
+        LocalTime time,
+        Long id
+) {
+
+    public ReminderCursor {
+        Objects.requireNonNull(date, "date must not be null");
+        Objects.requireNonNull(time, "time must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    public static ReminderCursor of(Reminder reminder) {
+        return new ReminderCursor(reminder.getDate(), reminder.getTime(), reminder.getId());
+    }
+}
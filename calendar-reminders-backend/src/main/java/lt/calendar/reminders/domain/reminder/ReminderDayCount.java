@@ -0,0 +1,8 @@
+package lt.calendar.reminders.domain.reminder;
+
+import java.time.LocalDate;
+
+public record ReminderDayCount(
+        LocalDate date,
+        long count
+) { }
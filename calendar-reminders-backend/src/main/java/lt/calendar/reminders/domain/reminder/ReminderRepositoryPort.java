@@ -1,20 +1,82 @@
 package lt.calendar.reminders.domain.reminder;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ReminderRepositoryPort {
 
     Reminder save(Reminder reminder);
 
+    /**
+     * Inserts new reminders using JDBC statement batching.
+     * Returned reminders keep the input order and carry generated ids.
+     */
+    List<Reminder> saveAll(List<Reminder> reminders);
+
     Optional<Reminder> findById(Long id);
 
-    List<Reminder> findAll();
+    Optional<ReminderVersion> findVersionById(Long id);
+
+    List<Reminder> findAllById(Collection<Long> ids);
+
+    List<Reminder> findByDates(Collection<LocalDate> dates);
+
+    /**
+     * Returns at most {@code limit} reminders with date in [from, to], ordered by (date, time, id)
+     * and positioned strictly after {@code after} (null for the first page).
+     */
+    List<Reminder> findPage(LocalDate from, LocalDate to, ReminderCursor after, int limit);
 
     List<Reminder> findByDate(LocalDate date);
 
-    void deleteById(Long id);
+    /**
+     * Pushes every reminder, ordered by (date, time, id), to {@code consumer} one at a time
+     * without holding the full result in memory. Must run inside a transaction.
+     *
+     * @return number of reminders streamed
+     */
+    long streamAll(Consumer<Reminder> consumer);
+
+    List<ReminderDayCount> countByDate();
+
+    /**
+     * Single UPDATE of text, date, time and updatedAt, applied only while the row still has
+     * {@code expectedVersion}; the version is incremented. The same statement returns the row as it was.
+     *
+     * @return the row before the update, empty when the row is gone or was modified concurrently
+     */
+    Optional<ReminderVersion> updateIfVersion(Reminder reminder, long expectedVersion);
+
+    /**
+     * Single DELETE applied only while the row still has {@code expectedVersion}, returning the deleted row.
+     *
+     * @return the deleted row, empty when the row is gone or was modified concurrently
+     */
+    Optional<ReminderVersion> deleteIfVersion(Long id, long expectedVersion);
+
+    /**
+     * Single DELETE statement, no entities are loaded.
+     *
+     * @return number of deleted rows
+     */
+    int deleteByDate(LocalDate date);
+
+    /**
+     * Deletes the next {@code limit} reminders with date in [from, to] in (date, time, id) order,
+     * strictly after {@code after} (null to start at {@code from}): one keyset SELECT of their positions
+     * along the date index, then one DELETE by id per day among them. No entities are loaded.
+     *
+     * @return selected positions in order (the last one is where the next chunk starts) and rows deleted per day
+     */
+    ReminderChunkDeletion deleteByDateRange(LocalDate from, LocalDate to, ReminderCursor after, int limit);
 
-    void deleteByDate(LocalDate date);
-}
\ No newline at end of file
+    /**
+     * Single UPDATE statement moving every reminder on {@code from} to {@code to}.
+     *
+     * @return number of moved rows
+     */
+    int moveToDate(LocalDate from, LocalDate to);
+}
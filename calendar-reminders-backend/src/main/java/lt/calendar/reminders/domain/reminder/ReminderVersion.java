@@ -0,0 +1,14 @@
+package lt.calendar.reminders.domain.reminder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The columns a mutation needs to know about the current row, without loading the whole reminder.
+ */
+public record ReminderVersion(
+        Long id,
+        LocalDate date,
+        LocalDateTime createdAt,
+        long version
+) { }
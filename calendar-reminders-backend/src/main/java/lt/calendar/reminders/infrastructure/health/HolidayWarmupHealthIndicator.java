@@ -0,0 +1,30 @@
+package lt.calendar.reminders.infrastructure.health;
+
+import lt.calendar.reminders.application.holiday.HolidayWarmupService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/*
+ *   Part of the readiness group: the instance takes no traffic until holidays are warmed up.
+ *   Always UP when the warm-up is disabled.
+ */
+@Component
+public class HolidayWarmupHealthIndicator implements HealthIndicator {
+
+    private final ObjectProvider<HolidayWarmupService> holidayWarmupService;
+
+    public HolidayWarmupHealthIndicator(ObjectProvider<HolidayWarmupService> holidayWarmupService) {
+        this.holidayWarmupService = holidayWarmupService;
+    }
+
+    @Override
+    public Health health() {
+        HolidayWarmupService warmup = holidayWarmupService.getIfAvailable();
+        if (warmup == null || warmup.isWarm()) {
+            return Health.up().build();
+        }
+        return Health.outOfService().withDetail("reason", "holiday warm-up in progress").build();
+    }
+}
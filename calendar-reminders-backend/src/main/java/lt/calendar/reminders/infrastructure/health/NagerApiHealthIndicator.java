@@ -0,0 +1,53 @@
+package lt.calendar.reminders.infrastructure.health;
+
+import lt.calendar.reminders.infrastructure.http.CircuitBreaker;
+import lt.calendar.reminders.infrastructure.http.ResilientHttpInterceptor;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/*
+ *   State of the outbound Nager client: circuit breaker, free bulkhead slots and connection pool.
+ *   DEGRADED (still HTTP 200) while the circuit is not closed, holidays then come from cache, snapshot or offline data.
+ *   Not part of the liveness or readiness groups.
+ */
+@Component
+public class NagerApiHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED", "Nager API calls are short-circuited");
+
+    private final ObjectProvider<ResilientHttpInterceptor> nagerResilienceInterceptor;
+    private final ObjectProvider<PoolingHttpClientConnectionManager> nagerConnectionManager;
+
+    public NagerApiHealthIndicator(ObjectProvider<ResilientHttpInterceptor> nagerResilienceInterceptor,
+                                   ObjectProvider<PoolingHttpClientConnectionManager> nagerConnectionManager) {
+        this.nagerResilienceInterceptor = nagerResilienceInterceptor;
+        this.nagerConnectionManager = nagerConnectionManager;
+    }
+
+    @Override
+    public Health health() {
+        ResilientHttpInterceptor interceptor = nagerResilienceInterceptor.getIfAvailable();
+        if (interceptor == null) {
+            return Health.unknown().build();
+        }
+
+        CircuitBreaker.State circuit = interceptor.circuitState();
+        Health.Builder health = (circuit == CircuitBreaker.State.CLOSED) ? Health.up() : Health.status(DEGRADED);
+        health.withDetail("circuit", circuit)
+                .withDetail("availableCallSlots", interceptor.availableSlots());
+
+        PoolingHttpClientConnectionManager pool = nagerConnectionManager.getIfAvailable();
+        if (pool != null) {
+            PoolStats stats = pool.getTotalStats();
+            health.withDetail("connectionsLeased", stats.getLeased())
+                    .withDetail("connectionsIdle", stats.getAvailable())
+                    .withDetail("connectionsPending", stats.getPending());
+        }
+        return health.build();
+    }
+}
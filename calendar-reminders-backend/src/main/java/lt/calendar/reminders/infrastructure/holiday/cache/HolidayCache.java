@@ -0,0 +1,262 @@
+package lt.calendar.reminders.infrastructure.holiday.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Holiday lists per key, loaded at most once at a time per key and never under a lock.
+ * <ul>
+ *     <li>fresh entries are returned as is until {@code ttl} runs out</li>
+ *     <li>expired entries are still returned while one background refresh replaces them</li>
+ *     <li>failures and empty results are remembered for {@code negativeTtl}, doubling up to {@code maxNegativeTtl}
+ *     while they keep happening; a failed refresh keeps serving the old list for the same backoff</li>
+ *     <li>at most {@code maxEntries} keys are kept in two segments: a new key starts on probation and moves
+ *     to the protected segment (up to 80% of the entries) once it is read again, so a run of one-off keys
+ *     only evicts other one-off keys, never the ones in regular use. Protected keys that overflow go back
+ *     to probation as its newest and are promoted again on their next read</li>
+ * </ul>
+ * Reads of cached keys take no lock; only a promotion, a store or an eviction does.
+ * The loader signals failure by throwing; callers then get the last good list, or an empty one.
+ */
+@Slf4j
+public class HolidayCache<K> {
+
+    private final Function<K, List<PublicHoliday>> loader;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Duration maxNegativeTtl;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final int maxEntries;
+    private final int maxProtectedEntries;
+
+    // read without a lock, written only under this together with the segments
+    private final ConcurrentHashMap<K, Slot> entries = new ConcurrentHashMap<>();
+    // guarded by this; insertion ordered, eldest first
+    private final LinkedHashSet<K> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<K> protectedKeys = new LinkedHashSet<>();
+    private final ConcurrentHashMap<K, CompletableFuture<List<PublicHoliday>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public HolidayCache(Function<K, List<PublicHoliday>> loader,
+                        Duration ttl,
+                        Duration negativeTtl,
+                        Duration maxNegativeTtl,
+                        Clock clock,
+                        Executor refreshExecutor,
+                        int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.loader = Objects.requireNonNull(loader, "loader must not be null");
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.maxNegativeTtl = maxNegativeTtl;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.maxEntries = maxEntries;
+        this.maxProtectedEntries = maxEntries * 4 / 5;
+    }
+
+    public List<PublicHoliday> get(K key) {
+        Entry entry = lookup(key);
+        Instant now = clock.instant();
+
+        if (entry != null && now.isBefore(entry.expiresAt())) {
+            (entry.negative() ? negativeHits : hits).increment();
+            return entry.holidays();
+        }
+
+        if (entry != null && !entry.negative()) {
+            staleHits.increment();
+            refreshInBackground(key);
+            return entry.holidays();
+        }
+
+        misses.increment();
+        return loadShared(key).join();
+    }
+
+    /**
+     * Seeds a list loaded earlier (e.g. from disk); it counts as fresh until {@code loadedAt + ttl},
+     * after that it is served stale while the first request refreshes it.
+     */
+    public void preload(K key, List<PublicHoliday> holidays, Instant loadedAt) {
+        if (holidays != null && !holidays.isEmpty()) {
+            Entry entry = new Entry(List.copyOf(holidays), false, loadedAt.plus(ttl), 0);
+            synchronized (this) {
+                if (!entries.containsKey(key)) {
+                    store(key, entry);
+                }
+            }
+        }
+    }
+
+    public HolidayCacheStats stats() {
+        return new HolidayCacheStats(
+                hits.sum(), staleHits.sum(), negativeHits.sum(), misses.sum(), refreshes.sum(), failures.sum(),
+                evictions.sum(), entries.size());
+    }
+
+    // a key read again while on probation has proven itself and moves to the protected segment
+    private Entry lookup(K key) {
+        Slot slot = entries.get(key);
+        if (slot == null) {
+            return null;
+        }
+        if (!slot.protectedSegment()) {
+            promote(key);
+        }
+        return slot.entry();
+    }
+
+    private Entry peek(K key) {
+        Slot slot = entries.get(key);
+        return (slot != null) ? slot.entry() : null;
+    }
+
+    private synchronized void promote(K key) {
+        Slot slot = entries.get(key);
+        if (slot == null || slot.protectedSegment()) {
+            return;
+        }
+        probation.remove(key);
+        protectedKeys.add(key);
+        entries.put(key, new Slot(slot.entry(), true));
+        demoteOverflow();
+    }
+
+    private synchronized void store(K key, Entry entry) {
+        Slot current = entries.get(key);
+        if (current != null) {
+            entries.put(key, new Slot(entry, current.protectedSegment()));
+            return;
+        }
+        probation.add(key);
+        entries.put(key, new Slot(entry, false));
+        while (entries.size() > maxEntries) {
+            LinkedHashSet<K> segment = probation.isEmpty() ? protectedKeys : probation;
+            Iterator<K> eldest = segment.iterator();
+            K evicted = eldest.next();
+            eldest.remove();
+            entries.remove(evicted);
+            evictions.increment();
+            log.debug("Evicted holidays for {} from cache", evicted);
+        }
+    }
+
+    // protected keys that fall out of the segment get one more chance as the newest on probation
+    private void demoteOverflow() {
+        while (protectedKeys.size() > maxProtectedEntries) {
+            Iterator<K> eldest = protectedKeys.iterator();
+            K demoted = eldest.next();
+            eldest.remove();
+            probation.add(demoted);
+            entries.computeIfPresent(demoted, (k, slot) -> new Slot(slot.entry(), false));
+        }
+    }
+
+    private CompletableFuture<List<PublicHoliday>> loadShared(K key) {
+        CompletableFuture<List<PublicHoliday>> created = new CompletableFuture<>();
+        CompletableFuture<List<PublicHoliday>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        // a load may have finished between the caller's lookup and registering this one
+        Entry current = peek(key);
+        if (current != null && clock.instant().isBefore(current.expiresAt())) {
+            inFlight.remove(key, created);
+            created.complete(current.holidays());
+            return created;
+        }
+        load(key, created);
+        return created;
+    }
+
+    private void refreshInBackground(K key) {
+        CompletableFuture<List<PublicHoliday>> created = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, created) != null) {
+            return;
+        }
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> load(key, created));
+        } catch (RuntimeException ex) {
+            // executor rejected the task: refresh inline rather than leave the key stuck in flight
+            load(key, created);
+        }
+    }
+
+    // only the thread that registered the future gets here; the remote call runs outside any lock
+    private void load(K key, CompletableFuture<List<PublicHoliday>> future) {
+        try {
+            Entry previous = peek(key);
+            Entry next;
+            try {
+                List<PublicHoliday> loaded = loader.apply(key);
+                next = (loaded == null || loaded.isEmpty())
+                        ? failed(previous)
+                        : new Entry(List.copyOf(loaded), false, clock.instant().plus(ttl), 0);
+            } catch (RuntimeException ex) {
+                failures.increment();
+                next = failed(previous);
+                log.warn("Loading holidays for {} failed, retrying in {} ms: {}",
+                        key, Duration.between(clock.instant(), next.expiresAt()).toMillis(), ex.getMessage());
+            }
+
+            store(key, next);
+            inFlight.remove(key, future);
+            future.complete(next.holidays());
+        } finally {
+            // an Error escaped: release the waiters instead of leaving them blocked on join()
+            if (!future.isDone()) {
+                inFlight.remove(key, future);
+                future.completeExceptionally(new IllegalStateException("Loading holidays for " + key + " did not complete"));
+            }
+        }
+    }
+
+    private Entry failed(Entry previous) {
+        int attempts = (previous == null) ? 1 : previous.failedAttempts() + 1;
+        Instant retryAt = clock.instant().plus(backoff(attempts));
+
+        if (previous != null && !previous.negative()) {
+            return new Entry(previous.holidays(), false, retryAt, attempts);
+        }
+        return new Entry(List.of(), true, retryAt, attempts);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = negativeTtl;
+        for (int i = 1; i < attempts && delay.compareTo(maxNegativeTtl) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(maxNegativeTtl) > 0 ? maxNegativeTtl : delay;
+    }
+
+    private record Entry(List<PublicHoliday> holidays, boolean negative, Instant expiresAt, int failedAttempts) {
+    }
+
+    private record Slot(Entry entry, boolean protectedSegment) {
+    }
+}
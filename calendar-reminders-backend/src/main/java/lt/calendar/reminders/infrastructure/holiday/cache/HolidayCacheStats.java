@@ -0,0 +1,18 @@
+package lt.calendar.reminders.infrastructure.holiday.cache;
+
+/**
+ * Counters since startup. staleHits are answered from an expired entry while it is refreshed in the background,
+ * negativeHits from a remembered failure or empty result without calling the provider.
+ * size is the number of keys currently held, evictions how many were dropped to stay within the bound.
+ */
+public record HolidayCacheStats(
+        long hits,
+        long staleHits,
+        long negativeHits,
+        long misses,
+        long refreshes,
+        long failures,
+        long evictions,
+        int size
+) {
+}
@@ -0,0 +1,178 @@
+package lt.calendar.reminders.infrastructure.holiday.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Last good holiday list per year, kept in one small binary file so a restart can serve holidays
+ * before (or without) reaching the remote API.
+ * <p>
+ * Layout: magic, format version, country code, then a CRC32-checked payload of years, each with
+ * the instant it was fetched. A file with a bad checksum, another format or another country is ignored.
+ * Writes go to a temp file that replaces the snapshot in one move, so a crash never leaves half a file.
+ */
+@Slf4j
+public class HolidaySnapshotStore {
+
+    private static final int MAGIC = 0x4C544853; // "LTHS"
+    private static final short FORMAT_VERSION = 1;
+
+    private final Path file;
+    private final String countryCode;
+
+    // guarded by this
+    private final Map<Integer, SnapshotYear> years = new TreeMap<>();
+
+    public HolidaySnapshotStore(Path file, String countryCode) {
+        this.file = file;
+        this.countryCode = countryCode;
+    }
+
+    /**
+     * Reads the snapshot file, or returns nothing when it is missing or unusable.
+     */
+    public synchronized Map<Integer, SnapshotYear> load() {
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            years.clear();
+            years.putAll(decode(bytes));
+            log.info("Loaded holiday snapshot {} with years {}", file, years.keySet());
+        } catch (NoSuchFileException ex) {
+            log.info("No holiday snapshot at {} yet", file);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable holiday snapshot {}: {}", file, ex.getMessage());
+        }
+        return Collections.unmodifiableMap(new TreeMap<>(years));
+    }
+
+    public synchronized void save(int year, List<PublicHoliday> holidays, Instant fetchedAt) {
+        years.put(year, new SnapshotYear(List.copyOf(holidays), fetchedAt));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, encode());
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to write holiday snapshot {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private byte[] encode() throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        try (DataOutputStream payload = new DataOutputStream(payloadBytes)) {
+            payload.writeInt(years.size());
+            for (Map.Entry<Integer, SnapshotYear> entry : years.entrySet()) {
+                payload.writeInt(entry.getKey());
+                payload.writeLong(entry.getValue().fetchedAt().toEpochMilli());
+                payload.writeInt(entry.getValue().holidays().size());
+                for (PublicHoliday holiday : entry.getValue().holidays()) {
+                    payload.writeLong(holiday.date().toEpochDay());
+                    writeNullable(payload, holiday.localName());
+                    writeNullable(payload, holiday.englishName());
+                    writeNullable(payload, holiday.countryCode());
+                    writeNullable(payload, holiday.type());
+                    payload.writeBoolean(holiday.global());
+                }
+            }
+        }
+        byte[] body = payloadBytes.toByteArray();
+
+        ByteArrayOutputStream fileBytes = new ByteArrayOutputStream(body.length + 64);
+        try (DataOutputStream out = new DataOutputStream(fileBytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeUTF(countryCode);
+            out.writeInt(body.length);
+            out.write(body);
+            out.writeLong(checksum(body));
+        }
+        return fileBytes.toByteArray();
+    }
+
+    private Map<Integer, SnapshotYear> decode(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION) {
+                throw new IOException("not a holiday snapshot of format " + FORMAT_VERSION);
+            }
+            String snapshotCountry = in.readUTF();
+            if (!snapshotCountry.equals(countryCode)) {
+                throw new IOException("snapshot is for country " + snapshotCountry);
+            }
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            if (in.readLong() != checksum(body)) {
+                throw new IOException("checksum mismatch");
+            }
+            return decodePayload(body);
+        }
+    }
+
+    private static Map<Integer, SnapshotYear> decodePayload(byte[] body) throws IOException {
+        Map<Integer, SnapshotYear> decoded = new TreeMap<>();
+        try (DataInputStream payload = new DataInputStream(new ByteArrayInputStream(body))) {
+            int yearCount = payload.readInt();
+            for (int i = 0; i < yearCount; i++) {
+                int year = payload.readInt();
+                Instant fetchedAt = Instant.ofEpochMilli(payload.readLong());
+                int holidayCount = payload.readInt();
+                List<PublicHoliday> holidays = new ArrayList<>(holidayCount);
+                for (int j = 0; j < holidayCount; j++) {
+                    holidays.add(PublicHoliday.builder()
+                            .date(LocalDate.ofEpochDay(payload.readLong()))
+                            .localName(readNullable(payload))
+                            .englishName(readNullable(payload))
+                            .countryCode(readNullable(payload))
+                            .type(readNullable(payload))
+                            .global(payload.readBoolean())
+                            .build());
+                }
+                decoded.put(year, new SnapshotYear(List.copyOf(holidays), fetchedAt));
+            }
+        }
+        return decoded;
+    }
+
+    private static long checksum(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return crc.getValue();
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public record SnapshotYear(List<PublicHoliday> holidays, Instant fetchedAt) {
+    }
+}
@@ -1,23 +1,32 @@
 package lt.calendar.reminders.infrastructure.holiday.nager;
 
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import lt.calendar.reminders.domain.holiday.HolidayProviderPort;
 import lt.calendar.reminders.domain.holiday.PublicHoliday;
-import lt.calendar.reminders.util.MyStopWatch;
+import lt.calendar.reminders.infrastructure.holiday.cache.HolidayCache;
+import lt.calendar.reminders.infrastructure.holiday.cache.HolidayCacheStats;
+import lt.calendar.reminders.infrastructure.holiday.cache.HolidaySnapshotStore;
+import lt.calendar.reminders.util.jfr.NagerFetchEvent;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(
         prefix = "calendar.holidays.nager",
         name = "use-static-mock",
@@ -28,31 +37,100 @@ public class NagerHolidayClientAdapter implements HolidayProviderPort {
 
     private final RestTemplate restTemplate;
     private final NagerHolidayProperties properties;
+    private final Clock clock;
+    private final HolidaySnapshotStore snapshotStore;
+    private final HolidayCache<CountryYear> cache;
+    private final OfflineHolidayProvider offlineFallback;
+
+    // stale-while-revalidate refreshes; owned by this bean and stopped with it
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "holiday-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Nager call latency by outcome; the error count doubles as the failure counter
+    private final Timer successTimer;
+    private final Timer emptyTimer;
+    private final Timer errorTimer;
+
+    public NagerHolidayClientAdapter(RestTemplate restTemplate, NagerHolidayProperties properties,
+                                     MeterRegistry meterRegistry, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.emptyTimer = requestTimer(meterRegistry, "empty");
+        this.errorTimer = requestTimer(meterRegistry, "error");
+        this.offlineFallback = properties.isOfflineFallback() ? new OfflineHolidayProvider() : null;
+        this.cache = new HolidayCache<>(
+                this::fetchAndSnapshot,
+                properties.getCacheTtl(),
+                properties.getNegativeCacheTtl(),
+                properties.getNegativeCacheMaxTtl(),
+                clock,
+                refreshExecutor,
+                properties.getCacheMaxEntries());
+
+        String snapshotPath = properties.getSnapshotPath();
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            this.snapshotStore = null;
+        } else {
+            this.snapshotStore = new HolidaySnapshotStore(Path.of(snapshotPath), properties.getCountryCode());
+            // years from the last run are served at once; stale ones get refreshed by the first request
+            snapshotStore.load().forEach((year, snapshot) -> cache.preload(
+                    new CountryYear(properties.getCountryCode(), year), snapshot.holidays(), snapshot.fetchedAt()));
+        }
+    }
 
-    private final Map<Integer, List<PublicHoliday>> cache = new ConcurrentHashMap<>();
+    @Override
+    public List<PublicHoliday> getPublicHolidays(String countryCode, int year) {
+        List<PublicHoliday> holidays = cache.get(new CountryYear(countryCode, year));
+        if (holidays.isEmpty() && offlineFallback != null) {
+            // nothing cached or snapshotted and the API is failing (or circuit open): compute what we can
+            return offlineFallback.getPublicHolidays(countryCode, year);
+        }
+        return holidays;
+    }
 
     @Override
-    public List<PublicHoliday> getPublicHolidays(int year) {
-        return cache.compute(year, (y, existing) -> {
-            if (existing != null && !existing.isEmpty()) {
-                return existing;
-            }
-            return fetchFromApi(y);
-        });
+    public String getDefaultCountryCode() {
+        return properties.getCountryCode();
     }
 
-    private List<PublicHoliday> fetchFromApi(int year) {
+    public HolidayCacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    // an in-flight refresh is interrupted; later ones are rejected and run inline by the cache
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // only the default country goes to the snapshot, the others are kept in memory
+    private List<PublicHoliday> fetchAndSnapshot(CountryYear key) {
+        List<PublicHoliday> holidays = fetchFromApi(key.countryCode(), key.year());
+        if (snapshotStore != null && !holidays.isEmpty() && key.countryCode().equals(properties.getCountryCode())) {
+            snapshotStore.save(key.year(), holidays, clock.instant());
+        }
+        return holidays;
+    }
+
+    // throws on failure so the cache can tell an outage from a real answer
+    private List<PublicHoliday> fetchFromApi(String countryCode, int year) {
         String url = String.format(
                 "%s/PublicHolidays/%d/%s",
                 properties.getBaseUrl(),
                 year,
-                properties.getCountryCode()
+                countryCode
         );
 
         log.info("Fetching public holidays from Nager API: {}", url);
 
-
-        MyStopWatch stopWatch = new MyStopWatch();
+        NagerFetchEvent event = new NagerFetchEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
 
         try {
             ResponseEntity<NagerHolidayDto[]> response =
@@ -60,8 +138,9 @@ public class NagerHolidayClientAdapter implements HolidayProviderPort {
 
             NagerHolidayDto[] body = response.getBody();
             if (body == null || body.length == 0) {
-                log.warn("No holidays received from Nager API for year {} ({} ms)", year, stopWatch.stopAndGetMillis());
-                return Collections.emptyList();
+                event.finish(countryCode, year, 0, "empty");
+                log.warn("No holidays received from Nager API for {} {} ({} ms)", countryCode, year, record(emptyTimer, startNanos));
+                return List.of();
             }
 
             List<PublicHoliday> result = Arrays.stream(body)
@@ -69,20 +148,33 @@ public class NagerHolidayClientAdapter implements HolidayProviderPort {
                     .map(this::toDomain)
                     .toList();
 
-            log.debug("Fetched {} holidays from Nager API for year {} in {} ms",
-                    result.size(), year, stopWatch.stopAndGetMillis());
+            event.finish(countryCode, year, result.size(), "success");
+            log.debug("Fetched {} holidays from Nager API for {} {} in {} ms",
+                    result.size(), countryCode, year, record(successTimer, startNanos));
 
             return result;
 
-        } catch (Exception ex) {
-            if (stopWatch.isRunning()) {
-                stopWatch.stop();
-            }
-            log.error("Failed to fetch public holidays from Nager API for year {}: \nException msg: {} \nException stacktrace: {} \nUrl: {}", year, ex.getMessage(), ex.getStackTrace(), url);
-            return Collections.emptyList();
+        } catch (RestClientException ex) {
+            record(errorTimer, startNanos);
+            event.finish(countryCode, year, 0, "error");
+            log.error("Failed to fetch public holidays from Nager API for {} {}: \nException msg: {} \nException stacktrace: {} \nUrl: {}", countryCode, year, ex.getMessage(), ex.getStackTrace(), url);
+            throw ex;
         }
     }
 
+    private static Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("holiday.nager.requests")
+                .description("Nager API calls, including the ones refused by the circuit breaker or bulkhead")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static long record(Timer timer, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        return TimeUnit.NANOSECONDS.toMillis(elapsed);
+    }
+
     private PublicHoliday toDomain(NagerHolidayDto dto) {
         return PublicHoliday.builder()
                 .date(dto.date)
@@ -94,6 +186,9 @@ public class NagerHolidayClientAdapter implements HolidayProviderPort {
                 .build();
     }
 
+    private record CountryYear(String countryCode, int year) {
+    }
+
     /**
      * Internal DTO for Nager API JSON mapping.
      */
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Setter
 @Getter
 @Component
@@ -16,4 +18,29 @@ public class NagerHolidayProperties {
     private String countryCode;
     private boolean useStaticMock;
 
+    private Duration cacheTtl = Duration.ofHours(24);
+    private Duration negativeCacheTtl = Duration.ofSeconds(30);
+    private Duration negativeCacheMaxTtl = Duration.ofMinutes(10);
+    // (country, year) pairs kept in memory, failures included
+    private int cacheMaxEntries = 512;
+
+    // empty disables the on-disk snapshot
+    private String snapshotPath;
+
+    // outbound HTTP: pooled keep-alive connections with strict timeouts
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    private int maxConnections = 8;
+
+    // bulkhead: concurrent calls, and how long a caller waits for a free slot
+    private int maxConcurrentCalls = 4;
+    private Duration bulkheadMaxWait = Duration.ofMillis(500);
+
+    // circuit breaker: consecutive failures that open it, and how long it stays open
+    private int circuitFailureThreshold = 5;
+    private Duration circuitOpenDuration = Duration.ofSeconds(30);
+
+    // answer from the offline provider when neither cache nor snapshot has the year
+    private boolean offlineFallback = true;
+
 }
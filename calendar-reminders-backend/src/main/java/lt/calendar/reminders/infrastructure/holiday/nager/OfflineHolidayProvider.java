@@ -1,18 +1,25 @@
 package lt.calendar.reminders.infrastructure.holiday.nager;
 
+import lombok.extern.slf4j.Slf4j;
 import lt.calendar.reminders.domain.holiday.HolidayProviderPort;
 import lt.calendar.reminders.domain.holiday.PublicHoliday;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.function.IntFunction;
 
 /*
- *   Offline/static holiday provider
+ *   Offline holiday provider, computes Lithuanian public holidays from 2003 on; other countries get none
  *   Activated when calendar.holidays.nager.use-static-mock=true
  */
+@Slf4j
 @Component
 @ConditionalOnProperty(
         prefix = "calendar.holidays.nager",
@@ -21,248 +28,114 @@ import java.util.Map;
 )
 public class OfflineHolidayProvider implements HolidayProviderPort {
 
-    private static final Map<Integer, List<PublicHoliday>> LT_HOLIDAYS_2025 = Map.of(
-            2025, List.of(
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 1, 1))
-                            .localName("Naujieji metai")
-                            .englishName("New Year's Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 2, 16))
-                            .localName("Lietuvos valstybės atkūrimo diena")
-                            .englishName("The Day of Restoration of the State of Lithuania")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 3, 11))
-                            .localName("Lietuvos nepriklausomybės atkūrimo diena")
-                            .englishName("Day of Restoration of Independence of Lithuania")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 4, 20))
-                            .localName("Velykos")
-                            .englishName("Easter Sunday")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 4, 21))
-                            .localName("Antroji Velykų diena")
-                            .englishName("Easter Monday")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 5, 1))
-                            .localName("Tarptautinė darbo diena")
-                            .englishName("International Working Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 6, 24))
-                            .localName("Joninės, Rasos")
-                            .englishName("St. John's Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 7, 6))
-                            .localName("Valstybės diena")
-                            .englishName("Statehood Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 8, 15))
-                            .localName("Žolinė")
-                            .englishName("Assumption Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 11, 1))
-                            .localName("Visų šventųjų diena")
-                            .englishName("All Saints' Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 11, 2))
-                            .localName("Vėlinės")
-                            .englishName("All Souls' Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 12, 24))
-                            .localName("Šv. Kūčios")
-                            .englishName("Christmas Eve")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 12, 25))
-                            .localName("Šv. Kalėdos")
-                            .englishName("Christmas Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2025, 12, 26))
-                            .localName("Šv. Kalėdos")
-                            .englishName("St. Stephen's Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build()
-            )
-    );
+    private static final String COUNTRY_CODE = "LT";
+
+    // the rules below hold from 2003, when St. John's Day was reinstated; the different lists of earlier
+    // years are not modelled, so those years get no offline holidays, like other countries
+    static final int FIRST_YEAR = 2003;
+    // years served from the precomputed table; later ones are computed on demand
+    static final int FIRST_TABLE_YEAR = FIRST_YEAR;
+    static final int LAST_TABLE_YEAR = 2150;
 
-    private static final Map<Integer, List<PublicHoliday>> LT_HOLIDAYS_2026 = Map.of(
-            2026, List.of(
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 1, 1))
-                            .localName("Naujieji metai")
-                            .englishName("New Year's Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 2, 16))
-                            .localName("Lietuvos valstybės atkūrimo diena")
-                            .englishName("The Day of Restoration of the State of Lithuania")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 3, 11))
-                            .localName("Lietuvos nepriklausomybės atkūrimo diena")
-                            .englishName("Day of Restoration of Independence of Lithuania")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 4, 5))
-                            .localName("Velykos")
-                            .englishName("Easter Sunday")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 4, 6))
-                            .localName("Antroji Velykų diena")
-                            .englishName("Easter Monday")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 5, 1))
-                            .localName("Tarptautinė darbo diena")
-                            .englishName("International Working Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 6, 24))
-                            .localName("Joninės, Rasos")
-                            .englishName("St. John's Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 7, 6))
-                            .localName("Valstybės diena")
-                            .englishName("Statehood Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 8, 15))
-                            .localName("Žolinė")
-                            .englishName("Assumption Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 11, 1))
-                            .localName("Visų šventųjų diena")
-                            .englishName("All Saints' Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 11, 2))
-                            .localName("Vėlinės")
-                            .englishName("All Souls' Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 12, 24))
-                            .localName("Šv. Kūčios")
-                            .englishName("Christmas Eve")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 12, 25))
-                            .localName("Šv. Kalėdos")
-                            .englishName("Christmas Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build(),
-                    PublicHoliday.builder()
-                            .date(LocalDate.of(2026, 12, 26))
-                            .localName("Šv. Kalėdos")
-                            .englishName("St. Stephen's Day")
-                            .countryCode("LT")
-                            .type("Public")
-                            .global(true)
-                            .build()
-            )
+    // holidays as currently set by the Labour Code; Christmas Eve (2012) and All Souls' Day (2020) were added since 2003
+    private static final List<Rule> RULES = List.of(
+            fixed(1, 1, "Naujieji metai", "New Year's Day"),
+            fixed(2, 16, "Lietuvos valstybės atkūrimo diena", "The Day of Restoration of the State of Lithuania"),
+            fixed(3, 11, "Lietuvos nepriklausomybės atkūrimo diena", "Day of Restoration of Independence of Lithuania"),
+            new Rule("Velykos", "Easter Sunday", 0, OfflineHolidayProvider::easterSunday),
+            new Rule("Antroji Velykų diena", "Easter Monday", 0, year -> easterSunday(year).plusDays(1)),
+            fixed(5, 1, "Tarptautinė darbo diena", "International Working Day"),
+            new Rule("Motinos diena", "Mother's Day", 0, year -> firstSunday(year, 5)),
+            new Rule("Tėvo diena", "Father's Day", 0, year -> firstSunday(year, 6)),
+            fixed(6, 24, "Joninės, Rasos", "St. John's Day"),
+            fixed(7, 6, "Valstybės diena", "Statehood Day"),
+            fixed(8, 15, "Žolinė", "Assumption Day"),
+            fixed(11, 1, "Visų šventųjų diena", "All Saints' Day"),
+            new Rule("Vėlinės", "All Souls' Day", 2020, year -> LocalDate.of(year, 11, 2)),
+            new Rule("Šv. Kūčios", "Christmas Eve", 2012, year -> LocalDate.of(year, 12, 24)),
+            fixed(12, 25, "Šv. Kalėdos", "Christmas Day"),
+            fixed(12, 26, "Šv. Kalėdos", "St. Stephen's Day")
     );
 
+    private static final List<List<PublicHoliday>> TABLE = buildTable();
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(String countryCode, int year) {
+        if (!COUNTRY_CODE.equals(countryCode)) {
+            log.debug("No offline holidays for country {}", countryCode);
+            return List.of();
+        }
+        if (year < FIRST_YEAR) {
+            log.debug("No offline holidays before {}, asked for {}", FIRST_YEAR, year);
+            return List.of();
+        }
+        if (year <= LAST_TABLE_YEAR) {
+            return TABLE.get(year - FIRST_TABLE_YEAR);
+        }
+        return computeHolidays(year);
+    }
 
     @Override
-    public List<PublicHoliday> getPublicHolidays(int year) {
-        return switch (year) {
-            case 2025 -> LT_HOLIDAYS_2025.getOrDefault(year, List.of());
-            case 2026 -> LT_HOLIDAYS_2026.getOrDefault(year, List.of());
-            default -> List.of();
-        };
+    public String getDefaultCountryCode() {
+        return COUNTRY_CODE;
+    }
+
+    static List<PublicHoliday> computeHolidays(int year) {
+        List<PublicHoliday> holidays = new ArrayList<>(RULES.size());
+        for (Rule rule : RULES) {
+            if (year >= rule.sinceYear()) {
+                holidays.add(PublicHoliday.builder()
+                        .date(rule.date().apply(year))
+                        .localName(rule.localName())
+                        .englishName(rule.englishName())
+                        .countryCode(COUNTRY_CODE)
+                        .type("Public")
+                        .global(true)
+                        .build());
+            }
+        }
+        holidays.sort(Comparator.comparing(PublicHoliday::date));
+        return List.copyOf(holidays);
+    }
+
+    /**
+     * Gregorian Easter Sunday (anonymous Gregorian computus, Meeus/Jones/Butcher).
+     */
+    static LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+    private static LocalDate firstSunday(int year, int month) {
+        return LocalDate.of(year, month, 1).with(TemporalAdjusters.firstInMonth(DayOfWeek.SUNDAY));
+    }
+
+    private static List<List<PublicHoliday>> buildTable() {
+        List<List<PublicHoliday>> table = new ArrayList<>(LAST_TABLE_YEAR - FIRST_TABLE_YEAR + 1);
+        for (int year = FIRST_TABLE_YEAR; year <= LAST_TABLE_YEAR; year++) {
+            table.add(computeHolidays(year));
+        }
+        return List.copyOf(table);
+    }
+
+    private static Rule fixed(int month, int day, String localName, String englishName) {
+        MonthDay monthDay = MonthDay.of(month, day);
+        return new Rule(localName, englishName, 0, monthDay::atYear);
     }
 
+    private record Rule(String localName, String englishName, int sinceYear, IntFunction<LocalDate> date) {
+    }
 }
@@ -0,0 +1,19 @@
+package lt.calendar.reminders.infrastructure.holiday.standin;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ *   Runs the Nager stand-in next to the application, point calendar.holidays.nager.base-url at it.
+ *   Activated when calendar.holidays.nager.stand-in.enabled=true (profile nagerstub)
+ */
+@Configuration
+public class NagerStandInConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "calendar.holidays.nager.stand-in", name = "enabled", havingValue = "true")
+    public NagerStandInServer nagerStandInServer(NagerStandInProperties properties) {
+        return new NagerStandInServer(properties);
+    }
+}
@@ -0,0 +1,30 @@
+package lt.calendar.reminders.infrastructure.holiday.standin;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "calendar.holidays.nager.stand-in")
+public class NagerStandInProperties {
+
+    // links to .properties
+    private boolean enabled;
+    // 0 picks a free port
+    private int port = 8089;
+
+    // response latency is log-normal with this median and 99th percentile
+    private Duration latencyMedian = Duration.ofMillis(20);
+    private Duration latencyP99 = Duration.ofMillis(200);
+
+    // share of requests answered with 503, and share that hang for hangDuration before answering
+    private double errorRate;
+    private double timeoutRate;
+    private Duration hangDuration = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,185 @@
+package lt.calendar.reminders.infrastructure.holiday.standin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import lt.calendar.reminders.infrastructure.holiday.nager.OfflineHolidayProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the Nager API, serving {@code GET /api/v3/PublicHolidays/{year}/{country}} on loopback
+ * so the real client adapter (pool, timeouts, circuit breaker, cache) can be benchmarked without the internet.
+ * <ul>
+ *     <li>LT answers with the offline Lithuanian holidays, any other country with New Year's Day and Christmas</li>
+ *     <li>every response is delayed by a log-normal latency given by its median and 99th percentile</li>
+ *     <li>{@code errorRate} of requests get 503, {@code timeoutRate} hang for {@code hangDuration} first</li>
+ * </ul>
+ * Each request runs on its own virtual thread, so injected latency never queues other requests.
+ */
+@Slf4j
+public class NagerStandInServer {
+
+    private static final Pattern PATH = Pattern.compile("/api/v3/PublicHolidays/(\\d{1,4})/([A-Za-z]{2})");
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.326;
+
+    private final NagerStandInProperties properties;
+    private final OfflineHolidayProvider lithuania = new OfflineHolidayProvider();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder injectedHangs = new LongAdder();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public NagerStandInServer(NagerStandInProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.getPort()), 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start Nager stand-in on port " + properties.getPort(), ex);
+        }
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("nager-stand-in-", 0).factory());
+        server.setExecutor(executor);
+        server.createContext("/api/v3/PublicHolidays/", this::handle);
+        server.start();
+        log.info("Nager stand-in listening on {} (latency median {} ms, p99 {} ms, errors {}, timeouts {})",
+                baseUrl(), properties.getLatencyMedian().toMillis(), properties.getLatencyP99().toMillis(),
+                properties.getErrorRate(), properties.getTimeoutRate());
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            log.info("Nager stand-in stopped after {} requests ({} errors, {} hangs injected)",
+                    requests.sum(), injectedErrors.sum(), injectedHangs.sum());
+        }
+    }
+
+    /**
+     * Base URL to put in calendar.holidays.nager.base-url.
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/v3";
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.increment();
+            Matcher matcher = PATH.matcher(exchange.getRequestURI().getPath());
+            if (!"GET".equals(exchange.getRequestMethod()) || !matcher.matches()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < properties.getTimeoutRate()) {
+                injectedHangs.increment();
+                sleep(properties.getHangDuration());
+            } else {
+                sleep(sampleLatency(random));
+            }
+            if (random.nextDouble() < properties.getErrorRate()) {
+                injectedErrors.increment();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            byte[] body = body(Integer.parseInt(matcher.group(1)), matcher.group(2).toUpperCase());
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Duration sampleLatency(ThreadLocalRandom random) {
+        double medianMillis = Math.max(properties.getLatencyMedian().toNanos() / 1e6, 0.001);
+        double p99Millis = Math.max(properties.getLatencyP99().toNanos() / 1e6, medianMillis);
+        double sigma = Math.log(p99Millis / medianMillis) / Z_99;
+        double millis = medianMillis * Math.exp(sigma * random.nextGaussian());
+        return Duration.ofNanos((long) (millis * 1e6));
+    }
+
+    private byte[] body(int year, String countryCode) {
+        return bodies.computeIfAbsent(countryCode + "/" + year, key -> {
+            List<NagerHolidayJson> holidays = holidays(year, countryCode).stream()
+                    .map(holiday -> new NagerHolidayJson(holiday.date(), holiday.localName(), holiday.englishName(),
+                            countryCode, false, holiday.global(), holiday.type()))
+                    .toList();
+            try {
+                return objectMapper.writeValueAsBytes(holidays);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    private List<PublicHoliday> holidays(int year, String countryCode) {
+        if (countryCode.equals(lithuania.getDefaultCountryCode())) {
+            return lithuania.getPublicHolidays(year);
+        }
+        return List.of(
+                new PublicHoliday(LocalDate.of(year, 1, 1), "New Year's Day", "New Year's Day", countryCode, "Public", true),
+                new PublicHoliday(LocalDate.of(year, 12, 25), "Christmas Day", "Christmas Day", countryCode, "Public", true));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // same shape as the Nager response; fixed is not tracked by PublicHoliday
+    private record NagerHolidayJson(
+            LocalDate date,
+            String localName,
+            String name,
+            String countryCode,
+            boolean fixed,
+            boolean global,
+            String type
+    ) {
+    }
+}
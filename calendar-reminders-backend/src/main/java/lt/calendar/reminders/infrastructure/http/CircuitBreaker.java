@@ -0,0 +1,95 @@
+package lt.calendar.reminders.infrastructure.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Consecutive-failure circuit breaker for one remote dependency.
+ * <ul>
+ *     <li>CLOSED: calls pass; {@code failureThreshold} failures in a row open the circuit</li>
+ *     <li>OPEN: calls are refused without touching the network until {@code openDuration} has passed</li>
+ *     <li>HALF_OPEN: a single probe call is let through; its success closes the circuit, its failure opens it again</li>
+ * </ul>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether a call may go out now; every permitted call must be followed by onSuccess or onFailure.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && !clock.instant().isBefore(openUntil)) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openUntil = clock.instant().plus(openDuration);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Gives a permission back when the call was not made after all; the state is left as it is.
+     */
+    public synchronized void releasePermission() {
+        probeInFlight = false;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void transitionTo(State next) {
+        log.info("Circuit breaker {} {} -> {} after {} consecutive failures", name, state, next, consecutiveFailures);
+        state = next;
+    }
+}
@@ -0,0 +1,179 @@
+package lt.calendar.reminders.infrastructure.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Guards every outbound call of one RestTemplate: a bulkhead caps how many run at once (callers wait at most
+ * {@code maxWait} for a slot, which is held until the response is closed, body included), and a circuit breaker
+ * refuses calls while the remote side keeps failing.
+ * Refused calls throw {@link CallNotPermittedException}, which RestTemplate reports as a ResourceAccessException.
+ * I/O errors, 5xx and 429 count as failures; other 4xx are answers and count as successes.
+ * Latency per outcome goes to the {@code http.client.guarded} timer when a MeterRegistry is given.
+ */
+public class ResilientHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String name;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final Duration maxWait;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientHttpInterceptor(String name,
+                                    int maxConcurrentCalls,
+                                    Duration maxWait,
+                                    CircuitBreaker circuitBreaker,
+                                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+
+        if (meterRegistry != null) {
+            // 0 closed, 1 open, 2 half open
+            meterRegistry.gauge("http.client.circuit.state", Tags.of("client", name),
+                    circuitBreaker, breaker -> breaker.state().ordinal());
+            meterRegistry.gauge("http.client.bulkhead.available", Tags.of("client", name),
+                    bulkhead, Semaphore::availablePermits);
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            record("short_circuited", 0L);
+            throw new CallNotPermittedException("Circuit of " + name + " is open, not calling " + request.getURI());
+        }
+        if (!acquireSlot()) {
+            // not a failure of the remote side
+            circuitBreaker.releasePermission();
+            record("rejected", 0L);
+            throw new CallNotPermittedException("All " + maxConcurrentCalls + " " + name + " connections are busy");
+        }
+
+        long start = System.nanoTime();
+        boolean handedOver = false;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            if (status >= 500 || status == 429) {
+                circuitBreaker.onFailure();
+                record("server_error", System.nanoTime() - start);
+            } else {
+                circuitBreaker.onSuccess();
+                record("success", System.nanoTime() - start);
+            }
+            handedOver = true;
+            return new SlotReleasingResponse(response);
+        } catch (IOException | RuntimeException ex) {
+            circuitBreaker.onFailure();
+            record("io_error", System.nanoTime() - start);
+            throw ex;
+        } finally {
+            if (!handedOver) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    public int availableSlots() {
+        return bulkhead.availablePermits();
+    }
+
+    private boolean acquireSlot() {
+        try {
+            return bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String outcome, long elapsedNanos) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Timer.builder("http.client.guarded")
+                .tag("client", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Keeps the bulkhead slot until the caller has read the body and closed the response; released only once.
+     */
+    private final class SlotReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private SlotReleasingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * The call was refused locally (circuit open or bulkhead full) and never reached the network.
+     */
+    public static class CallNotPermittedException extends IOException {
+
+        public CallNotPermittedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package lt.calendar.reminders.infrastructure.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ *   /actuator/flightrecording: GET shows the on-demand JFR recording, POST starts one
+ *   (optional duration and maxSize, e.g. {"duration": "2m", "maxSize": "32MB"}),
+ *   DELETE stops it and streams the .jfr file back, deleting it once sent.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordingManager flightRecordingManager;
+
+    public FlightRecordingEndpoint(FlightRecordingManager flightRecordingManager) {
+        this.flightRecordingManager = flightRecordingManager;
+    }
+
+    @ReadOperation
+    public FlightRecordingStatus status() {
+        return flightRecordingManager.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable Duration duration, @Nullable DataSize maxSize) {
+        try {
+            return new WebEndpointResponse<>(flightRecordingManager.start(duration, maxSize));
+        } catch (IllegalArgumentException ex) {
+            return new WebEndpointResponse<>(Map.of("error", ex.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return new WebEndpointResponse<>(Map.of("error", ex.getMessage()), 409);
+        }
+    }
+
+    @DeleteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> stop() {
+        Optional<Path> file = flightRecordingManager.stop();
+        return file.map(path -> new WebEndpointResponse<Resource>(new TemporaryFileResource(path)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    // streamed (not served as a file) so it can be deleted when the response is written
+    static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public String getFilename() {
+            return "calendar-reminders.jfr";
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package lt.calendar.reminders.infrastructure.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.util.jfr.NagerFetchEvent;
+import lt.calendar.reminders.util.jfr.ReminderQueryEvent;
+import lt.calendar.reminders.util.jfr.ReminderServiceEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ *   Owns the single on-demand flight recording: at most one at a time, bounded in duration and size,
+ *   written to a temp file that the caller takes over (and deletes) when the recording is stopped.
+ *   A recording that reached its duration stays downloadable until it is stopped or a new one is started.
+ */
+@Slf4j
+@Component
+public class FlightRecordingManager {
+
+    private static final String RECORDING_NAME = "calendar-reminders";
+
+    // enabled by the JDK settings, but they put environment variables, system properties and the
+    // command line (passwords, tokens) into a file that is handed out over HTTP
+    static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation"
+    );
+
+    private final FlightRecordingProperties properties;
+    private final Configuration configuration;
+
+    private Recording recording;
+    private Path destination;
+
+    public FlightRecordingManager(FlightRecordingProperties properties) {
+        this.properties = properties;
+        try {
+            this.configuration = Configuration.getConfiguration(properties.getSettings());
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Unknown JFR settings: " + properties.getSettings(), ex);
+        }
+    }
+
+    /**
+     * Starts a recording; null arguments fall back to the configured defaults.
+     *
+     * @throws IllegalStateException    when a recording is already running
+     * @throws IllegalArgumentException when duration or size is outside the configured bounds
+     */
+    public synchronized FlightRecordingStatus start(Duration duration, DataSize maxSize) {
+        Duration resolvedDuration = (duration != null) ? duration : properties.getDefaultDuration();
+        DataSize resolvedMaxSize = (maxSize != null) ? maxSize : properties.getDefaultMaxSize();
+        validate(resolvedDuration, resolvedMaxSize);
+
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A flight recording is already running");
+        }
+        discard();
+
+        try {
+            destination = Files.createTempFile("calendar-reminders-", ".jfr");
+            recording = new Recording(configuration);
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setDuration(resolvedDuration);
+            recording.setMaxSize(resolvedMaxSize.toBytes());
+            recording.setDestination(destination);
+            // our events are enabled by default, but not listed in the JDK settings files
+            recording.enable(ReminderServiceEvent.class).withoutThreshold();
+            recording.enable(ReminderQueryEvent.class).withoutThreshold();
+            recording.enable(NagerFetchEvent.class).withoutThreshold();
+            SENSITIVE_EVENTS.forEach(recording::disable);
+            recording.start();
+        } catch (IOException ex) {
+            discard();
+            throw new UncheckedIOException("Could not start flight recording", ex);
+        }
+
+        log.info("Started flight recording ({} settings) for {} up to {}", properties.getSettings(), resolvedDuration, resolvedMaxSize);
+        return FlightRecordingStatus.of(recording);
+    }
+
+    public synchronized FlightRecordingStatus status() {
+        return (recording != null) ? FlightRecordingStatus.of(recording) : FlightRecordingStatus.NONE;
+    }
+
+    /**
+     * Stops the recording and hands over its .jfr file; the caller is responsible for deleting it.
+     * Empty when no recording was started.
+     */
+    public synchronized Optional<Path> stop() {
+        if (recording == null) {
+            return Optional.empty();
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.close();
+            log.info("Stopped flight recording, {} bytes in {}", Files.size(destination), destination);
+            return Optional.of(destination);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write flight recording", ex);
+        } finally {
+            recording = null;
+            destination = null;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (destination != null) {
+            try {
+                Files.deleteIfExists(destination);
+            } catch (IOException ex) {
+                log.warn("Could not delete flight recording {}: {}", destination, ex.getMessage());
+            }
+            destination = null;
+        }
+    }
+
+    private void validate(Duration duration, DataSize maxSize) {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException(
+                    "duration must be positive and at most " + properties.getMaxDuration());
+        }
+        if (maxSize.toBytes() <= 0 || maxSize.compareTo(properties.getMaxSize()) > 0) {
+            throw new IllegalArgumentException(
+                    "maxSize must be positive and at most " + properties.getMaxSize());
+        }
+    }
+}
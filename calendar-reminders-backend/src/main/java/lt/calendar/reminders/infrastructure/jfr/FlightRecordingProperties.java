@@ -0,0 +1,29 @@
+package lt.calendar.reminders.infrastructure.jfr;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "calendar.jfr")
+public class FlightRecordingProperties {
+
+    // links to .properties
+    // JDK settings file the recording starts from ("default" or "profile")
+    private String settings = "profile";
+
+    // used when the start request does not give them
+    private Duration defaultDuration = Duration.ofSeconds(60);
+    private DataSize defaultMaxSize = DataSize.ofMegabytes(64);
+
+    // upper bounds a start request may ask for
+    private Duration maxDuration = Duration.ofMinutes(30);
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+}
@@ -0,0 +1,23 @@
+package lt.calendar.reminders.infrastructure.jfr;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Snapshot of the on-demand recording, as returned by the flightrecording endpoint.
+ */
+public record FlightRecordingStatus(String state, Instant startTime, Duration duration, long maxSizeBytes, long sizeBytes) {
+
+    static final FlightRecordingStatus NONE = new FlightRecordingStatus("NONE", null, null, 0, 0);
+
+    static FlightRecordingStatus of(Recording recording) {
+        return new FlightRecordingStatus(
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getDuration(),
+                recording.getMaxSize(),
+                recording.getSize());
+    }
+}
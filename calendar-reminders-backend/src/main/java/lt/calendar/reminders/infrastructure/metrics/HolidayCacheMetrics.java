@@ -0,0 +1,68 @@
+package lt.calendar.reminders.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lt.calendar.reminders.infrastructure.holiday.cache.HolidayCacheStats;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayClientAdapter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/*
+ *   Holiday cache counters of the Nager adapter, read from its HolidayCacheStats on scrape.
+ *   Nothing is bound when the static mock provider is used instead of the adapter.
+ */
+@Component
+public class HolidayCacheMetrics implements MeterBinder {
+
+    private final ObjectProvider<NagerHolidayClientAdapter> nagerHolidayClientAdapter;
+
+    public HolidayCacheMetrics(ObjectProvider<NagerHolidayClientAdapter> nagerHolidayClientAdapter) {
+        this.nagerHolidayClientAdapter = nagerHolidayClientAdapter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        NagerHolidayClientAdapter adapter = nagerHolidayClientAdapter.getIfAvailable();
+        if (adapter == null) {
+            return;
+        }
+        requests(registry, adapter, "hit", HolidayCacheStats::hits);
+        requests(registry, adapter, "stale", HolidayCacheStats::staleHits);
+        requests(registry, adapter, "negative", HolidayCacheStats::negativeHits);
+        requests(registry, adapter, "miss", HolidayCacheStats::misses);
+
+        FunctionCounter.builder("holiday.cache.refreshes", adapter, a -> a.cacheStats().refreshes())
+                .description("Background refreshes of stale entries")
+                .register(registry);
+        FunctionCounter.builder("holiday.cache.failures", adapter, a -> a.cacheStats().failures())
+                .description("Loads that failed or returned nothing")
+                .register(registry);
+        FunctionCounter.builder("holiday.cache.evictions", adapter, a -> a.cacheStats().evictions())
+                .description("Entries dropped to stay within the size bound")
+                .register(registry);
+        Gauge.builder("holiday.cache.size", adapter, a -> a.cacheStats().size())
+                .description("Cached (country, year) pairs")
+                .register(registry);
+        Gauge.builder("holiday.cache.hit.ratio", adapter, a -> hitRatio(a.cacheStats()))
+                .description("Share of lookups answered without waiting for the provider, since startup")
+                .register(registry);
+    }
+
+    private static void requests(MeterRegistry registry, NagerHolidayClientAdapter adapter, String result,
+                                 ToDoubleFunction<HolidayCacheStats> count) {
+        FunctionCounter.builder("holiday.cache.requests", adapter, a -> count.applyAsDouble(a.cacheStats()))
+                .description("Holiday cache lookups by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    static double hitRatio(HolidayCacheStats stats) {
+        long answered = stats.hits() + stats.staleHits() + stats.negativeHits();
+        long total = answered + stats.misses();
+        return (total == 0) ? 0.0 : (double) answered / total;
+    }
+}
@@ -0,0 +1,57 @@
+package lt.calendar.reminders.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lt.calendar.reminders.infrastructure.persistence.cache.CachingReminderRepositoryAdapter;
+import lt.calendar.reminders.infrastructure.persistence.cache.ReminderDayCacheStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/*
+ *   Per-day reminder cache counters, read from the caching adapter's ReminderDayCacheStats on scrape.
+ *   Nothing is bound unless calendar.reminders.cache.enabled=true
+ */
+@Component
+public class ReminderDayCacheMetrics implements MeterBinder {
+
+    private final ObjectProvider<CachingReminderRepositoryAdapter> cachingReminderRepositoryAdapter;
+
+    public ReminderDayCacheMetrics(ObjectProvider<CachingReminderRepositoryAdapter> cachingReminderRepositoryAdapter) {
+        this.cachingReminderRepositoryAdapter = cachingReminderRepositoryAdapter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CachingReminderRepositoryAdapter adapter = cachingReminderRepositoryAdapter.getIfAvailable();
+        if (adapter == null) {
+            return;
+        }
+        requests(registry, adapter, "hit", ReminderDayCacheStats::hits);
+        requests(registry, adapter, "miss", ReminderDayCacheStats::misses);
+
+        FunctionCounter.builder("reminder.day.cache.evictions", adapter, a -> a.stats().evictions())
+                .description("Days dropped to stay within the size bound")
+                .register(registry);
+        FunctionCounter.builder("reminder.day.cache.invalidations", adapter, a -> a.stats().invalidations())
+                .description("Cached days dropped after a committed write")
+                .register(registry);
+        Gauge.builder("reminder.day.cache.size", adapter, a -> a.stats().size())
+                .description("Cached days")
+                .register(registry);
+        Gauge.builder("reminder.day.cache.hit.ratio", adapter, a -> a.stats().hitRatio())
+                .description("Share of reads by date answered from the cache, since startup")
+                .register(registry);
+    }
+
+    private static void requests(MeterRegistry registry, CachingReminderRepositoryAdapter adapter, String result,
+                                 ToDoubleFunction<ReminderDayCacheStats> count) {
+        FunctionCounter.builder("reminder.day.cache.requests", adapter, a -> count.applyAsDouble(a.stats()))
+                .description("Reminder day cache lookups by result")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package lt.calendar.reminders.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lt.calendar.reminders.application.reminder.ReminderOccupancyIndex;
+import org.springframework.stereotype.Component;
+
+/*
+ *   Reminder row counts, read from the in-memory occupancy index on scrape, so no query per scrape.
+ */
+@Component
+public class ReminderMetrics implements MeterBinder {
+
+    private final ReminderOccupancyIndex occupancyIndex;
+
+    public ReminderMetrics(ReminderOccupancyIndex occupancyIndex) {
+        this.occupancyIndex = occupancyIndex;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reminders.rows", occupancyIndex, ReminderOccupancyIndex::totalCount)
+                .description("Stored reminders")
+                .register(registry);
+        Gauge.builder("reminders.days", occupancyIndex, ReminderOccupancyIndex::dayCount)
+                .description("Days with at least one reminder")
+                .register(registry);
+    }
+}
@@ -0,0 +1,252 @@
+package lt.calendar.reminders.infrastructure.persistence.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderChunkDeletion;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
+import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
+import lt.calendar.reminders.domain.reminder.ReminderVersion;
+import lt.calendar.reminders.util.AfterCommit;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache of {@link #findByDate} results in front of another {@link ReminderRepositoryPort}.
+ * Keeps at most {@code maxDays} immutable per-day lists in LRU order. Every write invalidates exactly
+ * the days it touches, after the surrounding transaction commits.
+ */
+@Slf4j
+public class CachingReminderRepositoryAdapter implements ReminderRepositoryPort {
+
+    private final ReminderRepositoryPort delegate;
+    private final int maxDays;
+
+    // access-ordered, guarded by itself
+    private final LinkedHashMap<LocalDate, List<Reminder>> days;
+    // which cached day holds each reminder, so id-based writes can find their old date
+    private final Map<Long, LocalDate> cachedDateById = new ConcurrentHashMap<>();
+    // day -> token of its latest load in flight, guarded by days; invalidating a day drops its token,
+    // so only a load that no invalidation of that same day overlapped gets cached
+    private final Map<LocalDate, Object> loadsInFlight = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CachingReminderRepositoryAdapter(ReminderRepositoryPort delegate, int maxDays) {
+        if (maxDays < 1) {
+            throw new IllegalArgumentException("maxDays must be positive");
+        }
+        this.delegate = delegate;
+        this.maxDays = maxDays;
+        this.days = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public List<Reminder> findByDate(LocalDate date) {
+        Object load = new Object();
+        synchronized (days) {
+            List<Reminder> cached = days.get(date);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            // a concurrent load of the same day is superseded; only the latest one caches its result
+            loadsInFlight.put(date, load);
+        }
+        misses.increment();
+
+        List<Reminder> loaded;
+        try {
+            loaded = List.copyOf(delegate.findByDate(date));
+        } catch (RuntimeException ex) {
+            synchronized (days) {
+                loadsInFlight.remove(date, load);
+            }
+            throw ex;
+        }
+
+        synchronized (days) {
+            if (loadsInFlight.remove(date, load)) {
+                put(date, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public ReminderDayCacheStats stats() {
+        synchronized (days) {
+            return new ReminderDayCacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), days.size());
+        }
+    }
+
+    // --- writes: delegate, then invalidate the touched days on commit
+
+    @Override
+    public Reminder save(Reminder reminder) {
+        Set<LocalDate> touched = new HashSet<>();
+        touched.add(reminder.getDate());
+        if (reminder.getId() != null) {
+            addCachedDate(touched, reminder.getId());
+        }
+        Reminder saved = delegate.save(reminder);
+        invalidateAfterCommit(touched, saved.getId());
+        return saved;
+    }
+
+    @Override
+    public List<Reminder> saveAll(List<Reminder> reminders) {
+        List<Reminder> saved = delegate.saveAll(reminders);
+        Set<LocalDate> touched = new HashSet<>();
+        saved.forEach(reminder -> touched.add(reminder.getDate()));
+        invalidateAfterCommit(touched, null);
+        return saved;
+    }
+
+    @Override
+    public Optional<ReminderVersion> updateIfVersion(Reminder reminder, long expectedVersion) {
+        Optional<ReminderVersion> previous = delegate.updateIfVersion(reminder, expectedVersion);
+        // the old and the new day; Set.of would reject the two being equal
+        previous.ifPresent(row -> invalidateAfterCommit(
+                new HashSet<>(Arrays.asList(reminder.getDate(), row.date())), reminder.getId()));
+        return previous;
+    }
+
+    @Override
+    public Optional<ReminderVersion> deleteIfVersion(Long id, long expectedVersion) {
+        Optional<ReminderVersion> deleted = delegate.deleteIfVersion(id, expectedVersion);
+        deleted.ifPresent(row -> invalidateAfterCommit(Set.of(row.date()), id));
+        return deleted;
+    }
+
+    @Override
+    public int deleteByDate(LocalDate date) {
+        int deleted = delegate.deleteByDate(date);
+        invalidateAfterCommit(Set.of(date), null);
+        return deleted;
+    }
+
+    @Override
+    public ReminderChunkDeletion deleteByDateRange(LocalDate from, LocalDate to, ReminderCursor after, int limit) {
+        ReminderChunkDeletion chunk = delegate.deleteByDateRange(from, to, after, limit);
+        if (!chunk.selected().isEmpty()) {
+            LocalDate first = chunk.selected().get(0).date();
+            LocalDate last = chunk.last().date();
+            AfterCommit.run(() -> invalidateRange(first, last));
+        }
+        return chunk;
+    }
+
+    @Override
+    public int moveToDate(LocalDate from, LocalDate to) {
+        int moved = delegate.moveToDate(from, to);
+        invalidateAfterCommit(Set.of(from, to), null);
+        return moved;
+    }
+
+    // --- uncached reads
+
+    @Override
+    public Optional<Reminder> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<ReminderVersion> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public List<Reminder> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Reminder> findByDates(Collection<LocalDate> dates) {
+        return delegate.findByDates(dates);
+    }
+
+    @Override
+    public List<Reminder> findPage(LocalDate from, LocalDate to, ReminderCursor after, int limit) {
+        return delegate.findPage(from, to, after, limit);
+    }
+
+    @Override
+    public long streamAll(Consumer<Reminder> consumer) {
+        return delegate.streamAll(consumer);
+    }
+
+    @Override
+    public List<ReminderDayCount> countByDate() {
+        return delegate.countByDate();
+    }
+
+    // --- internals
+
+    private void put(LocalDate date, List<Reminder> reminders) {
+        days.put(date, reminders);
+        reminders.forEach(reminder -> cachedDateById.put(reminder.getId(), date));
+
+        if (days.size() > maxDays) {
+            Iterator<Map.Entry<LocalDate, List<Reminder>>> eldest = days.entrySet().iterator();
+            Map.Entry<LocalDate, List<Reminder>> evicted = eldest.next();
+            eldest.remove();
+            forgetIds(evicted.getValue());
+            evictions.increment();
+        }
+    }
+
+    private void addCachedDate(Set<LocalDate> touched, Long id) {
+        LocalDate cachedDate = cachedDateById.get(id);
+        if (cachedDate != null) {
+            touched.add(cachedDate);
+        }
+    }
+
+    private void invalidateAfterCommit(Set<LocalDate> touched, Long id) {
+        AfterCommit.run(() -> {
+            Set<LocalDate> dates = new HashSet<>(touched);
+            // the day may have been loaded while the transaction was still open
+            if (id != null) {
+                addCachedDate(dates, id);
+            }
+            dates.forEach(this::invalidate);
+        });
+    }
+
+    private void invalidate(LocalDate date) {
+        synchronized (days) {
+            loadsInFlight.remove(date);
+            List<Reminder> removed = days.remove(date);
+            if (removed != null) {
+                forgetIds(removed);
+                invalidations.increment();
+            }
+        }
+    }
+
+    private void invalidateRange(LocalDate from, LocalDate to) {
+        synchronized (days) {
+            loadsInFlight.keySet().removeIf(date -> !date.isBefore(from) && !date.isAfter(to));
+            Iterator<Map.Entry<LocalDate, List<Reminder>>> entries = days.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<LocalDate, List<Reminder>> entry = entries.next();
+                if (!entry.getKey().isBefore(from) && !entry.getKey().isAfter(to)) {
+                    entries.remove();
+                    forgetIds(entry.getValue());
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    private void forgetIds(List<Reminder> reminders) {
+        reminders.forEach(reminder -> cachedDateById.remove(reminder.getId()));
+    }
+}
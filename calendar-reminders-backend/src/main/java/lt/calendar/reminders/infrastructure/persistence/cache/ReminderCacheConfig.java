@@ -0,0 +1,24 @@
+package lt.calendar.reminders.infrastructure.persistence.cache;
+
+import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
+import lt.calendar.reminders.infrastructure.persistence.jpa.ReminderRepositoryAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/*
+ *   Wraps the JPA adapter with the per-day read cache.
+ *   Activated when calendar.reminders.cache.enabled=true
+ */
+@Configuration
+public class ReminderCacheConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "calendar.reminders.cache", name = "enabled", havingValue = "true")
+    public CachingReminderRepositoryAdapter cachingReminderRepositoryAdapter(ReminderRepositoryAdapter delegate,
+                                                                             ReminderCacheProperties properties) {
+        return new CachingReminderRepositoryAdapter(delegate, properties.getMaxDays());
+    }
+}
@@ -0,0 +1,18 @@
+package lt.calendar.reminders.infrastructure.persistence.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "calendar.reminders.cache")
+public class ReminderCacheProperties {
+
+    // links to .properties
+    private boolean enabled;
+    private int maxDays = 1024;
+
+}
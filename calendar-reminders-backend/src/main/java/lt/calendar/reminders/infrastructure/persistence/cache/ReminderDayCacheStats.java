@@ -0,0 +1,15 @@
+package lt.calendar.reminders.infrastructure.persistence.cache;
+
+public record ReminderDayCacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        long invalidations,
+        int size
+) {
+
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -18,7 +18,8 @@ import java.time.LocalTime;
 public class ReminderEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminders_seq")
+    @SequenceGenerator(name = "reminders_seq", sequenceName = "reminders_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "reminder_text", nullable = false, length = 255)
@@ -36,6 +37,10 @@ public class ReminderEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         LocalDateTime now = DateTimeProvider.now();
@@ -1,19 +1,39 @@
 package lt.calendar.reminders.infrastructure.persistence.jpa;
 
+import jakarta.persistence.EntityManager;
 import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderChunkDeletion;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
 import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
+import lt.calendar.reminders.domain.reminder.ReminderVersion;
 import lombok.RequiredArgsConstructor;
+import lt.calendar.reminders.util.DateTimeProvider;
+import lt.calendar.reminders.util.jfr.ReminderQueryEvent;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class ReminderRepositoryAdapter implements ReminderRepositoryPort {
 
+    // matches spring.jpa.properties.hibernate.jdbc.batch_size
+    private static final int BATCH_SIZE = 50;
+
     private final SpringDataReminderRepository springDataReminderRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Reminder save(Reminder reminder) {
@@ -22,39 +42,169 @@ public class ReminderRepositoryAdapter implements ReminderRepositoryPort {
         return toDomain(saved);
     }
 
+    @Override
+    public List<Reminder> saveAll(List<Reminder> reminders) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        List<Reminder> saved = new ArrayList<>(reminders.size());
+        for (int i = 0; i < reminders.size(); i++) {
+            ReminderEntity entity = toEntity(reminders.get(i));
+            entityManager.persist(entity);
+            saved.add(toDomain(entity));
+
+            // send one JDBC batch and drop the managed entities, so the context stays small
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        event.finish("saveAll", null, saved.size());
+        return saved;
+    }
+
     @Override
     public Optional<Reminder> findById(Long id) {
-        return springDataReminderRepository.findById(id)
-                .map(this::toDomain);
+        return springDataReminderRepository.findReminderById(id);
     }
 
     @Override
-    public List<Reminder> findAll() {
-        return springDataReminderRepository.findAll()
-                .stream()
-                .map(this::toDomain)
-                .toList();
+    public Optional<ReminderVersion> findVersionById(Long id) {
+        return springDataReminderRepository.findVersionById(id).map(ReminderRepositoryAdapter::toVersion);
+    }
+
+    @Override
+    public Optional<ReminderVersion> updateIfVersion(Reminder reminder, long expectedVersion) {
+        return springDataReminderRepository.updateIfVersion(
+                        reminder.getId(),
+                        reminder.getText(),
+                        reminder.getDate(),
+                        reminder.getTime(),
+                        reminder.getUpdatedAt(),
+                        expectedVersion)
+                .map(ReminderRepositoryAdapter::toVersion);
+    }
+
+    @Override
+    public Optional<ReminderVersion> deleteIfVersion(Long id, long expectedVersion) {
+        return springDataReminderRepository.deleteIfVersion(id, expectedVersion).map(ReminderRepositoryAdapter::toVersion);
+    }
+
+    @Override
+    public List<Reminder> findAllById(Collection<Long> ids) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        List<Reminder> reminders = springDataReminderRepository.findRemindersByIds(ids);
+        event.finish("findAllById", null, reminders.size());
+        return reminders;
+    }
+
+    @Override
+    public List<Reminder> findByDates(Collection<LocalDate> dates) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        List<Reminder> reminders = springDataReminderRepository.findRemindersByDates(dates);
+        event.finish("findByDates", null, reminders.size());
+        return reminders;
+    }
+
+    @Override
+    public List<Reminder> findPage(LocalDate from, LocalDate to, ReminderCursor after, int limit) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        List<Reminder> reminders = (after == null)
+                ? springDataReminderRepository.findFirstPage(from, to, Limit.of(limit))
+                : springDataReminderRepository.findPageAfter(
+                        from, to, after.date(), after.time(), after.id(), Limit.of(limit));
+        event.finish("findPage", from, reminders.size());
+        return reminders;
     }
 
     @Override
     public List<Reminder> findByDate(LocalDate date) {
-        return springDataReminderRepository.findByReminderDateOrderByReminderTimeAsc(date)
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        List<Reminder> reminders = springDataReminderRepository.findRemindersByDate(date);
+        event.finish("findByDate", date, reminders.size());
+        return reminders;
+    }
+
+    @Override
+    public long streamAll(Consumer<Reminder> consumer) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        AtomicLong count = new AtomicLong();
+        try (Stream<Reminder> reminders = springDataReminderRepository.streamAllOrdered()) {
+            reminders.forEach(reminder -> {
+                consumer.accept(reminder);
+                count.incrementAndGet();
+            });
+        }
+        event.finish("streamAll", null, count.get());
+        return count.get();
+    }
+
+    @Override
+    public List<ReminderDayCount> countByDate() {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        List<ReminderDayCount> dayCounts = springDataReminderRepository.countGroupedByReminderDate()
                 .stream()
-                .map(this::toDomain)
+                .map(view -> new ReminderDayCount(view.getReminderDate(), view.getReminderCount()))
                 .toList();
+        event.finish("countByDate", null, dayCounts.size());
+        return dayCounts;
+    }
+
+    @Override
+    public int deleteByDate(LocalDate date) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        int deleted = springDataReminderRepository.deleteAllByReminderDate(date);
+        event.finish("deleteByDate", date, deleted);
+        return deleted;
     }
 
     @Override
-    public void deleteByDate(LocalDate date) {
-        springDataReminderRepository.deleteByReminderDate(date);
+    public ReminderChunkDeletion deleteByDateRange(LocalDate from, LocalDate to, ReminderCursor after, int limit) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        List<ReminderCursor> keys = (after == null)
+                ? springDataReminderRepository.findFirstKeys(from, to, Limit.of(limit))
+                : springDataReminderRepository.findKeysAfter(
+                        from, to, after.date(), after.time(), after.id(), Limit.of(limit));
+        // per day, so the caller learns which days actually lost rows; keys come in date order
+        Map<LocalDate, List<Long>> idsByDate = keys.stream().collect(Collectors.groupingBy(
+                ReminderCursor::date, LinkedHashMap::new, Collectors.mapping(ReminderCursor::id, Collectors.toList())));
+        List<ReminderDayCount> deletedByDay = new ArrayList<>(idsByDate.size());
+        idsByDate.forEach((date, ids) -> {
+            int deleted = springDataReminderRepository.deleteByIds(ids);
+            if (deleted > 0) {
+                deletedByDay.add(new ReminderDayCount(date, deleted));
+            }
+        });
+        ReminderChunkDeletion chunk = new ReminderChunkDeletion(keys, deletedByDay);
+        event.finish("deleteByDateRange", from, chunk.deleted());
+        return chunk;
     }
 
     @Override
-    public void deleteById(Long id) {
-        springDataReminderRepository.deleteById(id);
+    public int moveToDate(LocalDate from, LocalDate to) {
+        ReminderQueryEvent event = new ReminderQueryEvent();
+        event.begin();
+        int moved = springDataReminderRepository.moveAllToReminderDate(from, to, DateTimeProvider.now());
+        event.finish("moveToDate", from, moved);
+        return moved;
+    }
+
+
+    private static ReminderVersion toVersion(SpringDataReminderRepository.VersionView view) {
+        return new ReminderVersion(view.getId(), view.getReminderDate(), view.getCreatedAt(), view.getVersion());
     }
 
-    private ReminderEntity toEntity(Reminder reminder) {
+    // package-private for the JMH benchmarks in src/jmh
+    static ReminderEntity toEntity(Reminder reminder) {
         return ReminderEntity.builder()
                 .id(reminder.getId())
                 .reminderText(reminder.getText())
@@ -62,10 +212,11 @@ public class ReminderRepositoryAdapter implements ReminderRepositoryPort {
                 .reminderTime(reminder.getTime())
                 .createdAt(reminder.getCreatedAt())
                 .updatedAt(reminder.getUpdatedAt())
+                .version(reminder.getVersion())
                 .build();
     }
 
-    private Reminder toDomain(ReminderEntity entity) {
+    static Reminder toDomain(ReminderEntity entity) {
         return Reminder.builder()
                 .id(entity.getId())
                 .text(entity.getReminderText())
@@ -73,6 +224,7 @@ public class ReminderRepositoryAdapter implements ReminderRepositoryPort {
                 .time(entity.getReminderTime())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -1,15 +1,185 @@
 package lt.calendar.reminders.infrastructure.persistence.jpa;
 
+import jakarta.persistence.QueryHint;
+import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SpringDataReminderRepository extends JpaRepository<ReminderEntity, Long> {
 
-    List<ReminderEntity> findByReminderDateOrderByReminderTimeAsc(LocalDate reminderDate);
+    // read path: rows go straight into Reminder, no managed entities and no dirty-checking snapshots
+    String SELECT_REMINDER = """
+            select new lt.calendar.reminders.domain.reminder.Reminder(
+                r.id, r.reminderText, r.reminderDate, r.reminderTime, r.createdAt, r.updatedAt, r.version)
+            from ReminderEntity r
+            """;
 
-    void deleteByReminderDate(LocalDate reminderDate);
+    String SELECT_KEY = """
+            select new lt.calendar.reminders.domain.reminder.ReminderCursor(r.reminderDate, r.reminderTime, r.id)
+            from ReminderEntity r
+            """;
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_REMINDER + "where r.id = :id")
+    Optional<Reminder> findReminderById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_REMINDER + "where r.reminderDate = :reminderDate order by r.reminderTime, r.id")
+    List<Reminder> findRemindersByDate(@Param("reminderDate") LocalDate reminderDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_REMINDER + "where r.reminderDate in :reminderDates order by r.reminderDate, r.reminderTime, r.id")
+    List<Reminder> findRemindersByDates(@Param("reminderDates") Collection<LocalDate> reminderDates);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_REMINDER + "where r.id in :ids order by r.reminderDate, r.reminderTime, r.id")
+    List<Reminder> findRemindersByIds(@Param("ids") Collection<Long> ids);
+
+    // bulk DML: bypasses the persistence context, so it is flushed before and cleared after
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ReminderEntity r where r.reminderDate = :reminderDate")
+    int deleteAllByReminderDate(@Param("reminderDate") LocalDate reminderDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ReminderEntity r where r.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ReminderEntity r
+            set r.reminderDate = :to, r.updatedAt = :updatedAt, r.version = r.version + 1
+            where r.reminderDate = :from
+            """)
+    int moveAllToReminderDate(@Param("from") LocalDate from,
+                              @Param("to") LocalDate to,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("""
+            select r.reminderDate as reminderDate, count(r) as reminderCount
+            from ReminderEntity r
+            group by r.reminderDate
+            """)
+    List<DayCountView> countGroupedByReminderDate();
+
+    // first keyset page, range scan on idx_reminders_date_time_id
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_REMINDER + """
+            where r.reminderDate between :from and :to
+            order by r.reminderDate, r.reminderTime, r.id
+            """)
+    List<Reminder> findFirstPage(@Param("from") LocalDate from,
+                                 @Param("to") LocalDate to,
+                                 Limit limit);
+
+    // next keyset page, strictly after (afterDate, afterTime, afterId)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_REMINDER + """
+            where r.reminderDate between :from and :to
+              and (r.reminderDate > :afterDate
+                   or (r.reminderDate = :afterDate and r.reminderTime > :afterTime)
+                   or (r.reminderDate = :afterDate and r.reminderTime = :afterTime and r.id > :afterId))
+            order by r.reminderDate, r.reminderTime, r.id
+            """)
+    List<Reminder> findPageAfter(@Param("from") LocalDate from,
+                                 @Param("to") LocalDate to,
+                                 @Param("afterDate") LocalDate afterDate,
+                                 @Param("afterTime") LocalTime afterTime,
+                                 @Param("afterId") Long afterId,
+                                 Limit limit);
+
+    // keyset positions only, for deleting a range chunk by chunk along the date index
+    @Query(SELECT_KEY + """
+            where r.reminderDate between :from and :to
+            order by r.reminderDate, r.reminderTime, r.id
+            """)
+    List<ReminderCursor> findFirstKeys(@Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       Limit limit);
+
+    @Query(SELECT_KEY + """
+            where r.reminderDate between :from and :to
+              and (r.reminderDate > :afterDate
+                   or (r.reminderDate = :afterDate and r.reminderTime > :afterTime)
+                   or (r.reminderDate = :afterDate and r.reminderTime = :afterTime and r.id > :afterId))
+            order by r.reminderDate, r.reminderTime, r.id
+            """)
+    List<ReminderCursor> findKeysAfter(@Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       @Param("afterDate") LocalDate afterDate,
+                                       @Param("afterTime") LocalTime afterTime,
+                                       @Param("afterId") Long afterId,
+                                       Limit limit);
+
+    // server-side cursor for exports; projected rows never enter the persistence context
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_REMINDER + "order by r.reminderDate, r.reminderTime, r.id")
+    Stream<Reminder> streamAllOrdered();
+
+    @Query("""
+            select r.id as id, r.reminderDate as reminderDate, r.createdAt as createdAt, r.version as version
+            from ReminderEntity r
+            where r.id = :id
+            """)
+    Optional<VersionView> findVersionById(@Param("id") Long id);
+
+    // H2 data change delta tables: the conditional write and the row as it was before it, in one statement;
+    // no row means the id is gone or the version moved on
+    @Query(value = """
+            select id as "id", reminder_date as "reminderDate", created_at as "createdAt", version as "version"
+            from old table (
+                update reminders
+                set reminder_text = :text, reminder_date = :date, reminder_time = :time,
+                    updated_at = :updatedAt, version = version + 1
+                where id = :id and version = :expectedVersion)
+            """, nativeQuery = true)
+    Optional<VersionView> updateIfVersion(@Param("id") Long id,
+                                          @Param("text") String text,
+                                          @Param("date") LocalDate date,
+                                          @Param("time") LocalTime time,
+                                          @Param("updatedAt") LocalDateTime updatedAt,
+                                          @Param("expectedVersion") long expectedVersion);
+
+    @Query(value = """
+            select id as "id", reminder_date as "reminderDate", created_at as "createdAt", version as "version"
+            from old table (delete from reminders where id = :id and version = :expectedVersion)
+            """, nativeQuery = true)
+    Optional<VersionView> deleteIfVersion(@Param("id") Long id, @Param("expectedVersion") long expectedVersion);
+
+    interface VersionView {
+
+        Long getId();
+
+        LocalDate getReminderDate();
+
+        LocalDateTime getCreatedAt();
+
+        long getVersion();
+    }
+
+    interface DayCountView {
+
+        LocalDate getReminderDate();
+
+        long getReminderCount();
+    }
 }
\ No newline at end of file
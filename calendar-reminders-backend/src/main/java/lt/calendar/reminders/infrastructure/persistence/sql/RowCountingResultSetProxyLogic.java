@@ -0,0 +1,50 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import net.ttddyy.dsproxy.proxy.SimpleResultSetProxyLogic;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+/**
+ * Counts the rows read through a result set and adds them to the request's SqlRequestStats when it is closed.
+ * Result sets opened outside a request are not wrapped in the counting logic at all.
+ */
+class RowCountingResultSetProxyLogic extends SimpleResultSetProxyLogic {
+
+    static final ResultSetProxyLogicFactory FACTORY = (resultSet, connectionInfo, proxyConfig) -> {
+        SqlRequestStats stats = SqlRequestStats.current();
+        return (stats != null)
+                ? new RowCountingResultSetProxyLogic(resultSet, connectionInfo, proxyConfig, stats)
+                : new SimpleResultSetProxyLogic(resultSet, connectionInfo, proxyConfig);
+    };
+
+    private final SqlRequestStats stats;
+    private long rows;
+    private boolean closed;
+
+    private RowCountingResultSetProxyLogic(ResultSet resultSet, ConnectionInfo connectionInfo,
+                                           ProxyConfig proxyConfig, SqlRequestStats stats) {
+        super(resultSet, connectionInfo, proxyConfig);
+        this.stats = stats;
+    }
+
+    @Override
+    protected Object performProxyLogic(Object proxy, Method method, Object[] args,
+                                       MethodExecutionContext methodContext) throws Throwable {
+        Object result = super.performProxyLogic(proxy, method, args, methodContext);
+        String name = method.getName();
+        if (name.equals("next")) {
+            if (Boolean.TRUE.equals(result)) {
+                rows++;
+            }
+        } else if (name.equals("close") && !closed) {
+            closed = true;
+            stats.recordRows(rows);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to its shape, so statements that differ only in values group together in logs:
+ * literals become ?, IN lists of any length become (?...), comments and extra whitespace are dropped.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern COMMENTS = Pattern.compile("/\\*.*?\\*/|--[^\\n]*", Pattern.DOTALL);
+    private static final Pattern STRING_LITERALS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERALS = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LISTS = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String fingerprint = COMMENTS.matcher(sql).replaceAll(" ");
+        fingerprint = STRING_LITERALS.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERALS.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LISTS.matcher(fingerprint).replaceAll("in (?...)");
+        return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+    }
+}
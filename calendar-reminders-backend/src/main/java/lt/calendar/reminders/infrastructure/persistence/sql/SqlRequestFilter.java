@@ -0,0 +1,103 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.util.RequestRoute;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *   Collects the SQL a request issues and publishes it per route:
+ *   calendar.request.sql.statements, calendar.request.sql.rows and calendar.request.sql.time {method,uri}.
+ *   A request over its statement budget is logged with its most repeated statements
+ *   and counted in calendar.request.sql.budget.exceeded{method,uri}.
+ */
+@Slf4j
+public class SqlRequestFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC = "calendar.request.sql.statements";
+    public static final String ROWS_METRIC = "calendar.request.sql.rows";
+    public static final String TIME_METRIC = "calendar.request.sql.time";
+    public static final String BUDGET_EXCEEDED_METRIC = "calendar.request.sql.budget.exceeded";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementProperties properties;
+    private final Map<Route, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    public SqlRequestFilter(MeterRegistry meterRegistry, SqlStatementProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.close();
+            record(request, response, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlRequestStats stats) {
+        String route = RequestRoute.of(request, response);
+        Route key = new Route(request.getMethod(), route);
+        RouteMeters routeMeters = meters.get(key);
+        if (routeMeters == null) {
+            routeMeters = meters.computeIfAbsent(key, this::register);
+        }
+        routeMeters.statements().record(stats.statements());
+        routeMeters.rows().record(stats.rows());
+        routeMeters.time().record(stats.timeNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.budgetFor(route);
+        if (stats.statements() > budget) {
+            Counter.builder(BUDGET_EXCEEDED_METRIC)
+                    .description("Requests that issued more SQL statements than their budget")
+                    .tags(routeMeters.tags())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} issued {} SQL statements (budget {}), most repeated: {}",
+                    request.getMethod(), route, stats.statements(), budget, stats.topFingerprints(3));
+        }
+    }
+
+    private RouteMeters register(Route route) {
+        Tags tags = Tags.of("method", route.method(), "uri", route.uri());
+        return new RouteMeters(
+                tags,
+                DistributionSummary.builder(STATEMENTS_METRIC)
+                        .description("JDBC executions per request, a batch counts once")
+                        .tags(tags)
+                        .register(meterRegistry),
+                DistributionSummary.builder(ROWS_METRIC)
+                        .description("Rows read or changed per request")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Timer.builder(TIME_METRIC)
+                        .description("Time spent executing SQL per request")
+                        .tags(tags)
+                        .register(meterRegistry));
+    }
+
+    private record Route(String method, String uri) {
+    }
+
+    // registered on a route's first request and kept; the budget counter stays lazy so it only exists once exceeded
+    private record RouteMeters(Tags tags, DistributionSummary statements, DistributionSummary rows, Timer time) {
+    }
+}
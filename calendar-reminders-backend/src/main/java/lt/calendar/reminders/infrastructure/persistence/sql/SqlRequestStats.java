@@ -0,0 +1,73 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SQL issued by the current request thread: statements (one per JDBC execution, a batch counts once),
+ * rows read or changed, and time spent executing. Opened and closed by SqlRequestFilter;
+ * statements outside a request (startup, schedulers) only reach the global metrics.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long timeNanos;
+    // raw SQL is enough to spot repeats; it is only fingerprinted when a budget warning is logged
+    private final Map<String, Integer> statementsBySql = new HashMap<>();
+
+    public static SqlRequestStats open() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql, long rows, long timeNanos) {
+        statements++;
+        this.rows += rows;
+        this.timeNanos += timeNanos;
+        statementsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRows(long rows) {
+        this.rows += rows;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long timeNanos() {
+        return timeNanos;
+    }
+
+    /**
+     * The most repeated statement shapes, "count x fingerprint", most frequent first.
+     */
+    public List<String> topFingerprints(int limit) {
+        Map<String, Integer> byFingerprint = statementsBySql.entrySet().stream()
+                .collect(Collectors.toMap(e -> SqlFingerprint.of(e.getKey()), Map.Entry::getValue, Integer::sum));
+        return byFingerprint.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(e -> e.getValue() + " x " + e.getKey())
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/*
+ *   Wraps the DataSource in a datasource-proxy that reports every JDBC execution to SqlStatementListener,
+ *   and registers the filter that sums them up per request.
+ *   On unless calendar.sql.enabled=false
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "calendar.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementConfig {
+
+    @Bean
+    public SqlStatementListener sqlStatementListener(MeterRegistry meterRegistry, SqlStatementProperties properties) {
+        return new SqlStatementListener(meterRegistry, properties);
+    }
+
+    // static and lazy, so the post-processor does not pull the meter registry in before it is configured
+    @Bean
+    public static BeanPostProcessor sqlDataSourceProxyPostProcessor(ObjectProvider<SqlStatementListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener.getObject())
+                            .proxyResultSet(RowCountingResultSetProxyLogic.FACTORY)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlRequestFilter> sqlRequestFilter(MeterRegistry meterRegistry,
+                                                                     SqlStatementProperties properties) {
+        FilterRegistrationBean<SqlRequestFilter> registration =
+                new FilterRegistrationBean<>(new SqlRequestFilter(meterRegistry, properties));
+        // just inside the request cost filter
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+}
@@ -0,0 +1,121 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ *   Called by the datasource proxy around every JDBC execution: times it into calendar.sql.statements{kind},
+ *   adds it to the current request's SqlRequestStats and logs it by fingerprint when slower than the threshold.
+ *   Rows of SELECTs are added later by RowCountingResultSetProxyLogic, once the result set is read.
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    public static final String STATEMENTS_METRIC = "calendar.sql.statements";
+    public static final String SLOW_METRIC = "calendar.sql.slow";
+
+    private static final String START_NANOS = "calendar.startNanos";
+    // H2 data change delta tables: a select over "old table (update ...)" is the update
+    private static final Pattern DELTA_TABLE =
+            Pattern.compile("\\b(?:old|new|final)\\s+table\\s*\\(\\s*(insert|update|delete|merge)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public SqlStatementListener(MeterRegistry meterRegistry, SqlStatementProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = properties.getSlowQueryThreshold().toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = System.nanoTime() - execInfo.getCustomValue(START_NANOS, Long.class);
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        String kind = kindOf(sql);
+        long rows = updatedRows(execInfo.getResult());
+
+        timers.computeIfAbsent(kind, this::statementTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql, rows, elapsedNanos);
+        }
+
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            Counter.builder(SLOW_METRIC)
+                    .description("JDBC executions slower than calendar.sql.slow-query-threshold")
+                    .tag("kind", kind)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Slow SQL ({} ms{}): {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+                    SqlFingerprint.of(sql));
+        }
+    }
+
+    private Timer statementTimer(String kind) {
+        return Timer.builder(STATEMENTS_METRIC)
+                .description("JDBC executions, a batch counts once")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    // package-private for tests
+    static String kindOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        if (keyword.equals("select")) {
+            Matcher delta = DELTA_TABLE.matcher(trimmed);
+            if (delta.find()) {
+                return delta.group(1).toLowerCase(Locale.ROOT);
+            }
+        }
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete", "merge" -> keyword;
+            default -> "other";
+        };
+    }
+
+    // update counts of executeUpdate / executeBatch; queries report their rows when the result set closes
+    private static long updatedRows(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(count.longValue(), 0);
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+}
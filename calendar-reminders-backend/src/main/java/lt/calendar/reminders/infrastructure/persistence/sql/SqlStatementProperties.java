@@ -0,0 +1,30 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "calendar.sql")
+public class SqlStatementProperties {
+
+    // links to .properties
+    private boolean enabled = true;
+    private Duration slowQueryThreshold = Duration.ofMillis(100);
+
+    // statements one request may issue before a warning, per route template where the default does not fit
+    private int statementBudget = 10;
+    private Map<String, Integer> routeBudgets = new HashMap<>();
+
+    public int budgetFor(String route) {
+        return routeBudgets.getOrDefault(route, statementBudget);
+    }
+
+}
@@ -0,0 +1,24 @@
+package lt.calendar.reminders.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Route template of a handled request ("/reminders/{id}"), for metric tags and budgets.
+ * The raw path is never used, so ids and dates do not blow up the tag values.
+ */
+public final class RequestRoute {
+
+    private RequestRoute() {
+    }
+
+    public static String of(HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return (response.getStatus() == HttpStatus.NOT_FOUND.value()) ? "NOT_FOUND" : "UNKNOWN";
+    }
+}
@@ -0,0 +1,47 @@
+package lt.calendar.reminders.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call to the Nager public holiday API, including calls refused by the circuit breaker or bulkhead.
+ */
+@Name(NagerFetchEvent.NAME)
+@Label("Nager API Fetch")
+@Category({"Calendar Reminders", "Holidays"})
+@StackTrace(false)
+public class NagerFetchEvent extends Event {
+
+    public static final String NAME = "lt.calendar.reminders.NagerFetch";
+
+    @Label("Country")
+    String country;
+
+    @Label("Year")
+    int year;
+
+    @Label("Holidays")
+    @Description("Holidays received")
+    int holidays;
+
+    @Label("Outcome")
+    @Description("success, empty or error")
+    String outcome;
+
+    /**
+     * Commits the event when a recording has it enabled; the fields are only filled in then.
+     */
+    public void finish(String country, int year, int holidays, String outcome) {
+        if (shouldCommit()) {
+            this.country = country;
+            this.year = year;
+            this.holidays = holidays;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package lt.calendar.reminders.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+
+/**
+ * One reminder repository query, including mapping the rows to domain objects.
+ */
+@Name(ReminderQueryEvent.NAME)
+@Label("Reminder Query")
+@Category({"Calendar Reminders", "Persistence"})
+@StackTrace(false)
+public class ReminderQueryEvent extends Event {
+
+    public static final String NAME = "lt.calendar.reminders.ReminderQuery";
+
+    @Label("Query")
+    String query;
+
+    @Label("Date")
+    @Description("Reminder date the query is restricted to, empty when it spans several dates")
+    String date;
+
+    @Label("Rows")
+    @Description("Rows read or changed")
+    long rows;
+
+    /**
+     * Commits the event when a recording has it enabled; the fields are only filled in then.
+     */
+    public void finish(String query, LocalDate date, long rows) {
+        if (shouldCommit()) {
+            this.query = query;
+            this.date = (date != null) ? date.toString() : null;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package lt.calendar.reminders.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+
+/**
+ * One ReminderService call, from its first repository access until it returns. Calls that throw are not committed.
+ */
+@Name(ReminderServiceEvent.NAME)
+@Label("Reminder Service Call")
+@Category({"Calendar Reminders", "Service"})
+@StackTrace(false)
+public class ReminderServiceEvent extends Event {
+
+    public static final String NAME = "lt.calendar.reminders.ReminderService";
+
+    @Label("Method")
+    String method;
+
+    @Label("Date")
+    @Description("Reminder date the call worked on, empty when it spans several dates")
+    String date;
+
+    @Label("Rows")
+    @Description("Reminders returned, created, updated or deleted")
+    long rows;
+
+    /**
+     * Commits the event when a recording has it enabled; the fields are only filled in then.
+     */
+    public void finish(String method, LocalDate date, long rows) {
+        if (shouldCommit()) {
+            this.method = method;
+            this.date = (date != null) ? date.toString() : null;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
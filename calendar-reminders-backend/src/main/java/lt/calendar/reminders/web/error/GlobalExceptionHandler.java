@@ -3,7 +3,9 @@ package lt.calendar.reminders.web.error;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.application.exception.ReminderConflictException;
 import lt.calendar.reminders.application.exception.ReminderNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -89,6 +91,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(body);
     }
 
+    // 412 when If-Match did not match, 409 when the row changed between lookup and write
+    @ExceptionHandler(ReminderConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleConflict(ReminderConflictException ex, HttpServletRequest request) {
+
+        HttpStatus status = (request.getHeader(HttpHeaders.IF_MATCH) != null)
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+
+        log.info("Reminder conflict at {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ApiErrorResponse body = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now(clock))
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(status).body(body);
+    }
+
     // fallback for any unexpected error - 500
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleUnexpected(Exception ex, HttpServletRequest request) {
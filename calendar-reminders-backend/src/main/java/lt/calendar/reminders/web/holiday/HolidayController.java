@@ -3,8 +3,10 @@ package lt.calendar.reminders.web.holiday;
 import lombok.extern.slf4j.Slf4j;
 import lt.calendar.reminders.application.holiday.HolidayService;
 import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import lt.calendar.reminders.web.holiday.dto.HolidayCheckResponse;
 import lt.calendar.reminders.web.holiday.dto.PublicHolidayResponse;
 import lt.calendar.reminders.web.holiday.mapper.HolidayApiMapper;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -30,20 +32,37 @@ public class HolidayController {
     }
 
     /**
-     * GET /holidays?year=2025
-     * year is optional, defaults to current year.
+     * GET /holidays?year=2025&country=LV
+     * year is optional, defaults to current year; country is optional, defaults to configured country.
      */
     @GetMapping
     public List<PublicHolidayResponse> getHolidays(
-            @RequestParam(value = "year", required = false) Integer year) {
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "country", required = false) String country) {
 
         int resolvedYear = (year != null) ? year : LocalDate.now(clock).getYear();
 
-        List<PublicHoliday> holidays = holidayService.getPublicHolidays(resolvedYear);
-        log.info("Fetched {} holidays for year {}", holidays.size(), resolvedYear);
+        List<PublicHoliday> holidays = holidayService.getPublicHolidays(country, resolvedYear);
+        log.info("Fetched {} holidays for year {} (country {})", holidays.size(), resolvedYear, country);
 
         return holidays.stream()
                 .map(holidayApiMapper::toResponse)
                 .toList();
     }
+
+    /**
+     * GET /holidays/check?dates=2025-01-01,2025-01-02&country=LV
+     * Holiday flag for each distinct date (max 1000), in request order; country as for GET /holidays.
+     */
+    @GetMapping("/check")
+    public List<HolidayCheckResponse> checkHolidays(
+            @RequestParam("dates") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> dates,
+            @RequestParam(value = "country", required = false) String country) {
+
+        log.info("Checking {} dates for public holidays (country {})", dates.size(), country);
+
+        return holidayService.checkPublicHolidays(country, dates).entrySet().stream()
+                .map(entry -> new HolidayCheckResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 }
\ No newline at end of file
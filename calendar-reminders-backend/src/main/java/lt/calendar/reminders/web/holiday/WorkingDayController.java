@@ -0,0 +1,55 @@
+package lt.calendar.reminders.web.holiday;
+
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.application.holiday.WorkingDayService;
+import lt.calendar.reminders.web.holiday.dto.WorkingDayAddResponse;
+import lt.calendar.reminders.web.holiday.dto.WorkingDayCountResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/working-days")
+public class WorkingDayController {
+
+    private final WorkingDayService workingDayService;
+
+    public WorkingDayController(WorkingDayService workingDayService) {
+        this.workingDayService = workingDayService;
+    }
+
+    /**
+     * GET /working-days/add?date=2025-01-01&days=5
+     * Date that is given number of working days after (negative - before) date.
+     */
+    @GetMapping("/add")
+    public WorkingDayAddResponse addWorkingDays(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam("days") int days) {
+
+        LocalDate result = workingDayService.addWorkingDays(date, days);
+        log.info("{} plus {} working days is {}", date, days, result);
+
+        return new WorkingDayAddResponse(date, days, result);
+    }
+
+    /**
+     * GET /working-days/count?from=2025-01-01&to=2025-01-31
+     * Working days after from, up to and including to.
+     */
+    @GetMapping("/count")
+    public WorkingDayCountResponse countWorkingDays(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        int workingDays = workingDayService.countWorkingDays(from, to);
+        log.info("{} working days from {} to {}", workingDays, from, to);
+
+        return new WorkingDayCountResponse(from, to, workingDays);
+    }
+}
@@ -0,0 +1,9 @@
+package lt.calendar.reminders.web.holiday.dto;
+
+import java.time.LocalDate;
+
+public record HolidayCheckResponse(
+        LocalDate date,
+        boolean holiday
+) {
+}
@@ -0,0 +1,10 @@
+package lt.calendar.reminders.web.holiday.dto;
+
+import java.time.LocalDate;
+
+public record WorkingDayAddResponse(
+        LocalDate date,
+        int days,
+        LocalDate result
+) {
+}
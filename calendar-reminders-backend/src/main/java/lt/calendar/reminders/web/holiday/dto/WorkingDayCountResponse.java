@@ -0,0 +1,10 @@
+package lt.calendar.reminders.web.holiday.dto;
+
+import java.time.LocalDate;
+
+public record WorkingDayCountResponse(
+        LocalDate from,
+        LocalDate to,
+        int workingDays
+) {
+}
@@ -0,0 +1,27 @@
+package lt.calendar.reminders.web.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/*
+ *   Registers the per-request allocation and CPU filter ahead of the rest of the chain.
+ *   On unless calendar.request-cost.enabled=false
+ */
+@Configuration
+public class RequestCostConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "calendar.request-cost", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RequestCostFilter> requestCostFilter(MeterRegistry meterRegistry,
+                                                                       RequestCostProperties properties) {
+        FilterRegistrationBean<RequestCostFilter> registration =
+                new FilterRegistrationBean<>(new RequestCostFilter(meterRegistry, properties));
+        // right after the observation filter behind http.server.requests
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
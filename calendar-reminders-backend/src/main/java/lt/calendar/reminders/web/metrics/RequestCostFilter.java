@@ -0,0 +1,179 @@
+package lt.calendar.reminders.web.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.util.RequestRoute;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *   Bytes allocated and CPU time spent by the request thread, read from ThreadMXBean around the filter chain
+ *   and published per route as calendar.request.allocated{method,uri,status} and calendar.request.cpu{method,uri,status}.
+ *   Covers everything on the thread after this filter: handler, mapping, serialization and logging.
+ *   With calendar.request-cost.headers-enabled a client can send "X-Request-Cost: true" to get the numbers
+ *   back as headers; such a response is buffered to set them after the body, so it is left out of the metrics.
+ *   Streaming responses (NDJSON, server-sent events) are never buffered: they get no cost headers and are
+ *   measured like any other request.
+ */
+@Slf4j
+public class RequestCostFilter extends OncePerRequestFilter {
+
+    public static final String ALLOCATED_METRIC = "calendar.request.allocated";
+    public static final String CPU_METRIC = "calendar.request.cpu";
+
+    public static final String REQUEST_COST_HEADER = "X-Request-Cost";
+    public static final String ALLOCATED_BYTES_HEADER = "X-Request-Allocated-Bytes";
+    public static final String CPU_MICROS_HEADER = "X-Request-Cpu-Micros";
+
+    private static final Set<String> STREAMING_MEDIA_TYPES = Set.of("application/x-ndjson", "text/event-stream");
+
+    private final MeterRegistry meterRegistry;
+    private final RequestCostProperties properties;
+    private final ThreadMXBean threads;
+    // null when the JVM cannot count allocated bytes per thread
+    private final com.sun.management.ThreadMXBean allocations;
+    private final boolean cpuTimeEnabled;
+    private final Map<Route, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    public RequestCostFilter(MeterRegistry meterRegistry, RequestCostProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.threads = ManagementFactory.getThreadMXBean();
+        this.allocations = (threads instanceof com.sun.management.ThreadMXBean mxBean
+                && mxBean.isThreadAllocatedMemorySupported() && mxBean.isThreadAllocatedMemoryEnabled())
+                ? mxBean : null;
+        this.cpuTimeEnabled = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        if (allocations == null || !cpuTimeEnabled) {
+            log.warn("Per-request cost is incomplete on this JVM (allocated bytes: {}, CPU time: {})",
+                    allocations != null, cpuTimeEnabled);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CostHeaderResponse buffered =
+                (properties.isHeadersEnabled() && "true".equalsIgnoreCase(request.getHeader(REQUEST_COST_HEADER)))
+                        ? new CostHeaderResponse(response)
+                        : null;
+
+        long startAllocated = allocatedBytes();
+        long startCpu = cpuTimeNanos();
+        try {
+            filterChain.doFilter(request, (buffered != null) ? buffered : response);
+        } finally {
+            long allocated = allocatedBytes() - startAllocated;
+            long cpuNanos = cpuTimeNanos() - startCpu;
+
+            if (buffered != null && !buffered.streaming) {
+                buffered.setHeader(ALLOCATED_BYTES_HEADER, Long.toString(allocated));
+                buffered.setHeader(CPU_MICROS_HEADER, Long.toString(TimeUnit.NANOSECONDS.toMicros(cpuNanos)));
+                buffered.copyBodyToResponse();
+            } else if (!request.isAsyncStarted()) {
+                // async work continues on other threads, which this thread's counters do not see
+                record(request, response, allocated, cpuNanos);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long allocated, long cpuNanos) {
+        Route route = new Route(request.getMethod(), RequestRoute.of(request, response), response.getStatus());
+        RouteMeters routeMeters = meters.get(route);
+        if (routeMeters == null) {
+            routeMeters = meters.computeIfAbsent(route, this::register);
+        }
+        if (routeMeters.allocated() != null) {
+            routeMeters.allocated().record(allocated);
+        }
+        if (routeMeters.cpu() != null) {
+            routeMeters.cpu().record(cpuNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private RouteMeters register(Route route) {
+        String status = Integer.toString(route.status());
+        DistributionSummary allocated = (allocations == null) ? null : DistributionSummary.builder(ALLOCATED_METRIC)
+                .description("Bytes allocated by the request thread")
+                .baseUnit("bytes")
+                .tags("method", route.method(), "uri", route.uri(), "status", status)
+                .register(meterRegistry);
+        Timer cpu = !cpuTimeEnabled ? null : Timer.builder(CPU_METRIC)
+                .description("CPU time of the request thread")
+                .tags("method", route.method(), "uri", route.uri(), "status", status)
+                .register(meterRegistry);
+        return new RouteMeters(allocated, cpu);
+    }
+
+    private long allocatedBytes() {
+        return (allocations != null) ? allocations.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private long cpuTimeNanos() {
+        return cpuTimeEnabled ? threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    private record Route(String method, String uri, int status) {
+    }
+
+    // either meter is null when the JVM cannot measure it
+    private record RouteMeters(DistributionSummary allocated, Timer cpu) {
+    }
+
+    // buffers the body for the cost headers, unless the handler declares a streaming content type before writing
+    private static final class CostHeaderResponse extends ContentCachingResponseWrapper {
+
+        private boolean streaming;
+        private boolean bodyStarted;
+
+        private CostHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setContentType(String type) {
+            super.setContentType(type);
+            if (!bodyStarted && type != null) {
+                String mediaType = type.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+                streaming = STREAMING_MEDIA_TYPES.contains(mediaType);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            bodyStarted = true;
+            return streaming ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            bodyStarted = true;
+            return streaming ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (streaming) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package lt.calendar.reminders.web.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "calendar.request-cost")
+public class RequestCostProperties {
+
+    // links to .properties
+    private boolean enabled = true;
+    // lets a client ask for the cost of its own request with "X-Request-Cost: true"
+    private boolean headersEnabled;
+
+}
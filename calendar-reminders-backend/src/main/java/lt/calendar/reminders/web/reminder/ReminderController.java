@@ -1,20 +1,39 @@
 package lt.calendar.reminders.web.reminder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
 import lt.calendar.reminders.application.reminder.DateRangePolicy;
+import lt.calendar.reminders.application.reminder.ReminderBulkService;
 import lt.calendar.reminders.application.reminder.ReminderDateRange;
+import lt.calendar.reminders.application.reminder.ReminderPage;
 import lt.calendar.reminders.application.reminder.ReminderService;
 import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
 import lt.calendar.reminders.web.reminder.dto.AllowedDateRangeResponse;
+import lt.calendar.reminders.web.reminder.dto.BulkOperationResponse;
+import lt.calendar.reminders.web.reminder.dto.ReminderBatchRequest;
+import lt.calendar.reminders.web.reminder.dto.ReminderDayCountResponse;
 import lt.calendar.reminders.web.reminder.dto.ReminderRequest;
+import lt.calendar.reminders.web.reminder.dto.ReminderRescheduleRequest;
 import lt.calendar.reminders.web.reminder.dto.ReminderResponse;
 import lt.calendar.reminders.web.reminder.mapper.ReminderApiMapper;
+import lt.calendar.reminders.web.reminder.mapper.ReminderCursorCodec;
+import lt.calendar.reminders.web.reminder.mapper.VersionETagCodec;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
@@ -24,33 +43,128 @@ import java.util.List;
 @RequestMapping("/reminders")
 public class ReminderController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private static final String DEFAULT_PAGE_SIZE = "100";
+
     private final ReminderService reminderService;
+    private final ReminderBulkService reminderBulkService;
     private final ReminderApiMapper reminderApiMapper;
+    private final ReminderCursorCodec reminderCursorCodec;
+    private final VersionETagCodec versionETagCodec;
     private final DateRangePolicy dateRangePolicy;
+    private final ObjectWriter ndjsonWriter;
 
     public ReminderController(ReminderService reminderService,
-                              ReminderApiMapper reminderApiMapper, DateRangePolicy dateRangePolicy) {
+                              ReminderBulkService reminderBulkService,
+                              ReminderApiMapper reminderApiMapper,
+                              ReminderCursorCodec reminderCursorCodec,
+                              VersionETagCodec versionETagCodec,
+                              DateRangePolicy dateRangePolicy,
+                              ObjectMapper objectMapper) {
         this.reminderService = reminderService;
+        this.reminderBulkService = reminderBulkService;
         this.reminderApiMapper = reminderApiMapper;
+        this.reminderCursorCodec = reminderCursorCodec;
+        this.versionETagCodec = versionETagCodec;
         this.dateRangePolicy = dateRangePolicy;
+        // flushing is left to the servlet buffer, not done per line
+        this.ndjsonWriter = objectMapper.writerFor(ReminderResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
      * GET /reminders
-     * Optional: ?date=YYYY-MM-DD to filter by date.
+     * Optional: ?date=YYYY-MM-DD to filter by date; answered with a per-day ETag,
+     * and 304 without touching the database when If-None-Match still matches.
+     * Without date: keyset-paginated list ordered by date, time, id.
+     * Optional: ?from=YYYY-MM-DD&to=YYYY-MM-DD bounds, ?limit=N (default 100, max 500),
+     * ?cursor=... taken from the X-Next-Cursor header of the previous page.
      */
     @GetMapping
-    public List<ReminderResponse> getReminders(
+    public ResponseEntity<List<ReminderResponse>> getReminders(
             @RequestParam(value = "date", required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
+        if (date != null) {
+            // tag first: a write landing before the rows are read only makes it stale, never wrong
+            String eTag = versionETagCodec.toETag(reminderService.getDayVersionTag(date));
+            if (versionETagCodec.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+                log.debug("Reminders for date {} not modified", date);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
 
-        log.info("Fetching reminders with date filter: {}", date);
-        List<Reminder> reminders = (date == null)
-                ? reminderService.getAllReminders()
-                : reminderService.getRemindersForDate(date);
+            log.info("Fetching reminders with date filter: {}", date);
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(toResponses(reminderService.getRemindersForDate(date)));
+        }
 
-        return reminders.stream()
+        log.info("Fetching reminders page from {} to {} (limit {})", from, to, limit);
+        ReminderCursor after = (cursor != null) ? reminderCursorCodec.decode(cursor) : null;
+        ReminderPage page = reminderService.getReminders(from, to, after, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, reminderCursorCodec.encode(page.nextCursor()));
+        }
+        return response.body(toResponses(page.reminders()));
+    }
+
+    /**
+     * GET /reminders/export
+     * Streams all reminders as newline-delimited JSON, one reminder per line,
+     * ordered by date, time, id. Memory use does not grow with the table size.
+     */
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    public void exportReminders(HttpServletResponse response) throws IOException {
+        log.info("Exporting reminders as NDJSON");
+
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding("UTF-8");
+
+        try (JsonGenerator generator = ndjsonWriter.createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+
+            long exported = reminderService.exportReminders(reminder -> {
+                try {
+                    ndjsonWriter.writeValue(generator, reminderApiMapper.toResponse(reminder));
+                    generator.writeRaw('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+
+            log.debug("Exported {} reminders", exported);
+        }
+    }
+
+    /**
+     * GET /reminders/overview?from=YYYY-MM-DD&to=YYYY-MM-DD
+     * Per-day reminder counts for days with at least one reminder.
+     * Bounds are optional and default to the allowed date range.
+     */
+    @GetMapping("/overview")
+    public List<ReminderDayCountResponse> getOverview(
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("Fetching reminders overview from {} to {}", from, to);
+        return reminderService.getOccupancy(from, to).stream()
                 .map(reminderApiMapper::toResponse)
                 .toList();
     }
@@ -58,15 +172,19 @@ public class ReminderController {
     /**
      * GET /reminders/range
      * Returns the currently allowed reminder date range.
+     * Cacheable until the next local midnight, when the range moves.
      */
     @GetMapping("/range")
-    public AllowedDateRangeResponse getAllowedDateRange() {
+    public ResponseEntity<AllowedDateRangeResponse> getAllowedDateRange() {
         ReminderDateRange range = dateRangePolicy.getCurrentRange();
         LocalDate minDate = range.minDate();
         LocalDate maxDate = range.maxDate();
 
         log.info("Returning allowed reminder date range: {} to {}", minDate, maxDate);
-        return new AllowedDateRangeResponse(minDate, maxDate);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(dateRangePolicy.getRemainingValidity(range)))
+                .eTag(versionETagCodec.toETag(minDate.toString()))
+                .body(new AllowedDateRangeResponse(minDate, maxDate));
     }
 
     /**
@@ -86,38 +204,87 @@ public class ReminderController {
         ReminderResponse response = reminderApiMapper.toResponse(created);
 
         URI location = URI.create("/reminders/" + created.getId());
-        return ResponseEntity.created(location).body(response);
+        return ResponseEntity.created(location)
+                .eTag(versionETagCodec.toETag(created.getVersion()))
+                .body(response);
+    }
+
+    /**
+     * POST /reminders/batch
+     * Creates many reminders in one transaction using JDBC batching.
+     * Either all reminders are created or none (400 when any date is outside the allowed range).
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ReminderResponse> createReminders(@Valid @RequestBody ReminderBatchRequest request) {
+
+        log.info("Creating {} reminders in batch", request.getReminders().size());
+
+        List<Reminder> toCreate = request.getReminders().stream()
+                .map(reminderApiMapper::toDomain)
+                .toList();
+
+        return toResponses(reminderService.createReminders(toCreate));
+    }
+
+    /**
+     * GET /reminders/batch?ids=1,2,3 or GET /reminders/batch?dates=YYYY-MM-DD,YYYY-MM-DD
+     * Multi-get in one query, ordered by date, time, id. Exactly one of ids / dates is required.
+     */
+    @GetMapping("/batch")
+    public List<ReminderResponse> getRemindersBatch(
+            @RequestParam(value = "ids", required = false) List<Long> ids,
+            @RequestParam(value = "dates", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> dates) {
+
+        if ((ids == null) == (dates == null)) {
+            throw new BusinessRuleViolationException("Exactly one of 'ids' or 'dates' must be provided");
+        }
+
+        log.info("Fetching reminders batch by {}", (ids != null) ? "ids" : "dates");
+        List<Reminder> reminders = (ids != null)
+                ? reminderService.getRemindersByIds(ids)
+                : reminderService.getRemindersByDates(dates);
+
+        return toResponses(reminders);
     }
 
     /**
      * PUT /reminders/{id}
      * Updates an existing reminder.
+     * Optional If-Match: "version" - 412 when the reminder has changed since.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ReminderResponse> updateReminder(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ReminderRequest request) {
 
         log.info("Updating reminder with id {}", id);
 
         Reminder updatedDomain = reminderApiMapper.toDomain(request);
-        Reminder updated = reminderService.updateReminder(id, updatedDomain);
+        Reminder updated = reminderService.updateReminder(id, updatedDomain, versionETagCodec.parseIfMatch(ifMatch));
 
         log.debug("Updated reminder with id {}", updated.getId());
 
         ReminderResponse response = reminderApiMapper.toResponse(updated);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(versionETagCodec.toETag(updated.getVersion()))
+                .body(response);
     }
 
     /**
      * DELETE /reminders/{id}
      * Deletes one reminder by id.
+     * Optional If-Match: "version" - 412 when the reminder has changed since.
      */
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteReminder(@PathVariable Long id) {
+    public void deleteReminder(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting reminder with id {}", id);
-        reminderService.deleteReminder(id);
+        reminderService.deleteReminder(id, versionETagCodec.parseIfMatch(ifMatch));
     }
     /**
      * DELETE /reminders?date=YYYY-MM-DD
@@ -134,4 +301,36 @@ public class ReminderController {
         reminderService.deleteRemindersByDate(date);
     }
 
+    /**
+     * DELETE /reminders/bulk?from=YYYY-MM-DD&to=YYYY-MM-DD
+     * Set-based delete of every reminder in the inclusive range (at most 366 days), returns the affected row count.
+     */
+    @DeleteMapping("/bulk")
+    public BulkOperationResponse deleteRemindersBetween(
+            @RequestParam("from")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("Bulk deleting reminders from {} to {}", from, to);
+        return new BulkOperationResponse(reminderBulkService.deleteRemindersBetween(from, to));
+    }
+
+    /**
+     * POST /reminders/reschedule
+     * Moves every reminder from fromDate to toDate in one statement, returns the affected row count.
+     */
+    @PostMapping("/reschedule")
+    public BulkOperationResponse rescheduleReminders(@Valid @RequestBody ReminderRescheduleRequest request) {
+        log.info("Rescheduling reminders from {} to {}", request.getFromDate(), request.getToDate());
+        return new BulkOperationResponse(
+                reminderBulkService.rescheduleReminders(request.getFromDate(), request.getToDate()));
+    }
+
+    private List<ReminderResponse> toResponses(List<Reminder> reminders) {
+        return reminders.stream()
+                .map(reminderApiMapper::toResponse)
+                .toList();
+    }
+
 }
\ No newline at end of file
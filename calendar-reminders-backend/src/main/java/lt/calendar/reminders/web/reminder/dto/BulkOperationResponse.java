@@ -0,0 +1,5 @@
+package lt.calendar.reminders.web.reminder.dto;
+
+public record BulkOperationResponse(
+        int affected
+) { }
@@ -0,0 +1,19 @@
+package lt.calendar.reminders.web.reminder.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class ReminderBatchRequest {
+
+    @NotEmpty(message = "Reminders must not be empty")
+    @Size(max = 5000, message = "At most 5000 reminders can be created in one batch")
+    private List<@Valid ReminderRequest> reminders;
+
+}
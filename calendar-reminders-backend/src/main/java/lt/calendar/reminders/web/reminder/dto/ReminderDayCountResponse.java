@@ -0,0 +1,8 @@
+package lt.calendar.reminders.web.reminder.dto;
+
+import java.time.LocalDate;
+
+public record ReminderDayCountResponse(
+        LocalDate date,
+        long count
+) { }
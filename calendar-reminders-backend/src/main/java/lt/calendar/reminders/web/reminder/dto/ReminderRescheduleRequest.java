@@ -0,0 +1,19 @@
+package lt.calendar.reminders.web.reminder.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Setter
+@Getter
+public class ReminderRescheduleRequest {
+
+    @NotNull(message = "Source date is required")
+    private LocalDate fromDate;
+
+    @NotNull(message = "Target date is required")
+    private LocalDate toDate;
+
+}
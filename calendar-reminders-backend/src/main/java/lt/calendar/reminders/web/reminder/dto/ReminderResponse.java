@@ -30,4 +30,6 @@ public class ReminderResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime updatedAt;
 
+    private Long version;
+
 }
\ No newline at end of file
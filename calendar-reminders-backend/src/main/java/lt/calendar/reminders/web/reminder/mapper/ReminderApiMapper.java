@@ -1,6 +1,8 @@
 package lt.calendar.reminders.web.reminder.mapper;
 
 import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
+import lt.calendar.reminders.web.reminder.dto.ReminderDayCountResponse;
 import lt.calendar.reminders.web.reminder.dto.ReminderRequest;
 import lt.calendar.reminders.web.reminder.dto.ReminderResponse;
 import org.springframework.stereotype.Component;
@@ -24,6 +26,11 @@ public class ReminderApiMapper {
         response.setTime(reminder.getTime());
         response.setCreatedAt(reminder.getCreatedAt());
         response.setUpdatedAt(reminder.getUpdatedAt());
+        response.setVersion(reminder.getVersion());
         return response;
     }
+
+    public ReminderDayCountResponse toResponse(ReminderDayCount dayCount) {
+        return new ReminderDayCountResponse(dayCount.date(), dayCount.count());
+    }
 }
\ No newline at end of file
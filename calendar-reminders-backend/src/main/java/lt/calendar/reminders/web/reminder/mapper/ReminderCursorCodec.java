@@ -0,0 +1,44 @@
+package lt.calendar.reminders.web.reminder.mapper;
+
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes keyset cursors as opaque URL-safe tokens, so clients never depend on the key layout.
+ */
+@Component
+public class ReminderCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode(ReminderCursor cursor) {
+        String raw = cursor.date() + SEPARATOR + cursor.time() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ReminderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new BusinessRuleViolationException("Invalid cursor");
+            }
+            return new ReminderCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalTime.parse(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessRuleViolationException("Invalid cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package lt.calendar.reminders.web.reminder.mapper;
+
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Maps reminder versions to strong ETags ("3") and back from If-Match headers (strong comparison),
+ * and checks If-None-Match headers for conditional GETs.
+ */
+@Component
+public class VersionETagCodec {
+
+    public String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public String toETag(String versionTag) {
+        return "\"" + versionTag + "\"";
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires: true when any listed tag (or "*") matches {@code eTag}.
+     */
+    public boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        String expected = stripWeakPrefix(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeakPrefix(tag).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Strong comparison, as If-Match requires: weak tags (W/"3") never match, so they are skipped, and a
+     * comma-separated list matches when any of its tags does.
+     *
+     * @return acceptable versions (empty when none can match), or null when the header is absent or "*"
+     */
+    public Set<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return null;
+            }
+            if (tag.startsWith("W/")) {
+                continue;
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+
+            try {
+                versions.add(Long.parseLong(tag));
+            } catch (NumberFormatException ex) {
+                throw new BusinessRuleViolationException("Invalid If-Match header: " + ifMatch, ex);
+            }
+        }
+        return versions;
+    }
+
+    private static String stripWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
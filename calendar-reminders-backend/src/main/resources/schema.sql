@@ -1,12 +1,18 @@
 DROP TABLE IF EXISTS reminders;
+DROP SEQUENCE IF EXISTS reminders_seq;
+
+-- pooled sequence (allocation size 50) so Hibernate can batch inserts; IDENTITY disables JDBC batching
+CREATE SEQUENCE reminders_seq START WITH 1 INCREMENT BY 50;
 
 CREATE TABLE reminders (
-                           id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                           id              BIGINT         DEFAULT NEXT VALUE FOR reminders_seq PRIMARY KEY,
                            reminder_text   VARCHAR(255)   NOT NULL,
                            reminder_date   DATE           NOT NULL,
                            reminder_time   TIME           NOT NULL,
                            created_at      TIMESTAMP      NOT NULL,
-                           updated_at      TIMESTAMP      NOT NULL
+                           updated_at      TIMESTAMP      NOT NULL,
+                           version         BIGINT         DEFAULT 0 NOT NULL
 );
 
-CREATE INDEX idx_reminders_date ON reminders(reminder_date);
\ No newline at end of file
+-- covers both per-date lookups and keyset pagination on (date, time, id)
+CREATE INDEX idx_reminders_date_time_id ON reminders(reminder_date, reminder_time, id);
@@ -1,20 +1,33 @@
 package lt.calendar.reminders.application.holiday;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
 import lt.calendar.reminders.domain.holiday.HolidayProviderPort;
 import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.*;
 
 class HolidayServiceTest {
 
     private final HolidayProviderPort holidayProviderPort = mock(HolidayProviderPort.class);
-    private final HolidayService holidayService = new HolidayService(holidayProviderPort);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HolidayService holidayService = new HolidayService(holidayProviderPort, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        when(holidayProviderPort.getDefaultCountryCode()).thenReturn("LT");
+    }
 
     @Test
     @DisplayName("getPublicHolidays should delegate to provider port")
@@ -29,7 +42,7 @@ class HolidayServiceTest {
                 true
         );
 
-        when(holidayProviderPort.getPublicHolidays(year)).thenReturn(List.of(holiday));
+        when(holidayProviderPort.getPublicHolidays("LT", year)).thenReturn(List.of(holiday));
 
         List<PublicHoliday> result = holidayService.getPublicHolidays(year);
 
@@ -37,7 +50,8 @@ class HolidayServiceTest {
                 .hasSize(1)
                 .containsExactly(holiday);
 
-        verify(holidayProviderPort).getPublicHolidays(year);
+        verify(holidayProviderPort).getDefaultCountryCode();
+        verify(holidayProviderPort).getPublicHolidays("LT", year);
         verifyNoMoreInteractions(holidayProviderPort);
     }
 
@@ -56,12 +70,29 @@ class HolidayServiceTest {
                 true
         );
 
-        when(holidayProviderPort.getPublicHolidays(year)).thenReturn(List.of(holiday));
+        when(holidayProviderPort.getPublicHolidays("LT", year)).thenReturn(List.of(holiday));
 
         boolean result = holidayService.isPublicHoliday(date);
 
         assertThat(result).isTrue();
-        verify(holidayProviderPort).getPublicHolidays(year);
+        verify(holidayProviderPort).getPublicHolidays("LT", year);
+    }
+
+    @Test
+    @DisplayName("service calls should be timed per method, single-date checks only counted")
+    void publicHolidayLookups_recordMetrics() {
+        when(holidayProviderPort.getPublicHolidays("LT", 2025)).thenReturn(List.of());
+
+        holidayService.getPublicHolidays(2025);
+        holidayService.isPublicHoliday(LocalDate.of(2025, 1, 2));
+        holidayService.isPublicHoliday(LocalDate.of(2025, 1, 3));
+
+        assertThat(meterRegistry.get("calendar.method")
+                .tag("class", "HolidayService")
+                .tag("method", "getPublicHolidays")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get("holiday.checks").counter().count()).isEqualTo(2);
     }
 
     @Test
@@ -79,12 +110,12 @@ class HolidayServiceTest {
                 true
         );
 
-        when(holidayProviderPort.getPublicHolidays(year)).thenReturn(List.of(anotherHoliday));
+        when(holidayProviderPort.getPublicHolidays("LT", year)).thenReturn(List.of(anotherHoliday));
 
         boolean result = holidayService.isPublicHoliday(date);
 
         assertThat(result).isFalse();
-        verify(holidayProviderPort).getPublicHolidays(year);
+        verify(holidayProviderPort).getPublicHolidays("LT", year);
     }
 
     @Test
@@ -92,12 +123,12 @@ class HolidayServiceTest {
     void getPublicHolidays_returnsEmptyWhenProviderEmpty() {
         int year = 2025;
 
-        when(holidayProviderPort.getPublicHolidays(year)).thenReturn(List.of());
+        when(holidayProviderPort.getPublicHolidays("LT", year)).thenReturn(List.of());
 
         List<PublicHoliday> result = holidayService.getPublicHolidays(year);
 
         assertThat(result).isEmpty();
-        verify(holidayProviderPort).getPublicHolidays(year);
+        verify(holidayProviderPort).getPublicHolidays("LT", year);
     }
 
     @Test
@@ -106,13 +137,96 @@ class HolidayServiceTest {
         LocalDate date = LocalDate.of(2025, 5, 1);
         int year = date.getYear();
 
-        when(holidayProviderPort.getPublicHolidays(year)).thenReturn(List.of());
+        when(holidayProviderPort.getPublicHolidays("LT", year)).thenReturn(List.of());
 
         boolean result = holidayService.isPublicHoliday(date);
 
         assertThat(result).isFalse();
-        verify(holidayProviderPort).getPublicHolidays(year);
+        verify(holidayProviderPort).getPublicHolidays("LT", year);
+    }
+
+    @Test
+    @DisplayName("checkPublicHolidays should answer every date in order, reusing the year index")
+    void checkPublicHolidays_returnsFlagsInRequestOrder() {
+        var newYear = new PublicHoliday(LocalDate.of(2025, 1, 1), "Naujieji metai", "New Year's Day", "LT", "Public", true);
+        var christmas = new PublicHoliday(LocalDate.of(2026, 12, 25), "Kalėdos", "Christmas Day", "LT", "Public", true);
+        List<PublicHoliday> holidays2025 = List.of(newYear);
+        when(holidayProviderPort.getPublicHolidays("LT", 2025)).thenReturn(holidays2025);
+        when(holidayProviderPort.getPublicHolidays("LT", 2026)).thenReturn(List.of(christmas));
+
+        var result = holidayService.checkPublicHolidays(List.of(
+                LocalDate.of(2026, 12, 25),
+                LocalDate.of(2025, 1, 2),
+                LocalDate.of(2025, 1, 1)
+        ));
+
+        assertThat(result).containsExactly(
+                entry(LocalDate.of(2026, 12, 25), true),
+                entry(LocalDate.of(2025, 1, 2), false),
+                entry(LocalDate.of(2025, 1, 1), true)
+        );
+        assertThat(holidayService.getYearIndex(2025)).isSameAs(holidayService.getYearIndex(2025));
+    }
+
+    @Test
+    @DisplayName("getYearIndex should rebuild when provider returns a refreshed list")
+    void getYearIndex_rebuildsWhenProviderListChanges() {
+        LocalDate date = LocalDate.of(2025, 6, 24);
+        var holiday = new PublicHoliday(date, "Joninės", "St. John's Day", "LT", "Public", true);
+        when(holidayProviderPort.getPublicHolidays("LT", 2025)).thenReturn(List.of(), List.of(holiday));
+        HolidayService alwaysRechecking = new HolidayService(holidayProviderPort, meterRegistry, Duration.ZERO);
+
+        assertThat(alwaysRechecking.isPublicHoliday(date)).isFalse();
+        assertThat(alwaysRechecking.isPublicHoliday(date)).isTrue();
+    }
+
+    @Test
+    @DisplayName("isPublicHoliday should reuse a fresh year index without asking the provider again")
+    void isPublicHoliday_reusesIndexWithinRecheckInterval() {
+        LocalDate date = LocalDate.of(2025, 6, 24);
+        var holiday = new PublicHoliday(date, "Joninės", "St. John's Day", "LT", "Public", true);
+        when(holidayProviderPort.getPublicHolidays("LT", 2025)).thenReturn(List.of(holiday));
+        HolidayService service = new HolidayService(holidayProviderPort, meterRegistry, Duration.ofHours(1));
+
+        assertThat(service.isPublicHoliday(date)).isTrue();
+        assertThat(service.isPublicHoliday(date.plusDays(1))).isFalse();
+
+        verify(holidayProviderPort, times(1)).getPublicHolidays("LT", 2025);
     }
 
+    @Test
+    @DisplayName("checkPublicHolidays should reject empty and oversized batches")
+    void checkPublicHolidays_rejectsInvalidBatchSize() {
+        List<LocalDate> tooMany = Collections.nCopies(HolidayService.MAX_CHECK_DATES + 1, LocalDate.of(2025, 1, 1));
+
+        assertThatThrownBy(() -> holidayService.checkPublicHolidays(List.of()))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> holidayService.checkPublicHolidays(tooMany))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        verifyNoInteractions(holidayProviderPort);
+    }
 
-}
+    @Test
+    @DisplayName("getPublicHolidays should normalize the country code and ask the provider for that country")
+    void getPublicHolidays_usesRequestedCountry() {
+        var holiday = new PublicHoliday(LocalDate.of(2025, 11, 18), "Latvijas Republikas proklamēšanas diena",
+                "Proclamation Day of the Republic of Latvia", "LV", "Public", true);
+        when(holidayProviderPort.getPublicHolidays("LV", 2025)).thenReturn(List.of(holiday));
+
+        assertThat(holidayService.getPublicHolidays(" lv ", 2025)).containsExactly(holiday);
+        assertThat(holidayService.checkPublicHolidays("LV", List.of(LocalDate.of(2025, 11, 18))))
+                .containsExactly(entry(LocalDate.of(2025, 11, 18), true));
+
+        verify(holidayProviderPort, never()).getPublicHolidays("LT", 2025);
+    }
+
+    @Test
+    @DisplayName("getPublicHolidays should reject a country code that is not two letters")
+    void getPublicHolidays_rejectsInvalidCountryCode() {
+        assertThatThrownBy(() -> holidayService.getPublicHolidays("LTU", 2025))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> holidayService.getPublicHolidays("L1", 2025))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        verifyNoInteractions(holidayProviderPort);
+    }
+}
\ No newline at end of file
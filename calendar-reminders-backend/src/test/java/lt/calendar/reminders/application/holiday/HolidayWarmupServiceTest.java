@@ -0,0 +1,70 @@
+package lt.calendar.reminders.application.holiday;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.application.reminder.DateRangePolicy;
+import lt.calendar.reminders.application.reminder.ReminderDateRange;
+import lt.calendar.reminders.domain.holiday.HolidayProviderPort;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class HolidayWarmupServiceTest {
+
+    private final HolidayProviderPort holidayProviderPort = mock(HolidayProviderPort.class);
+    private final DateRangePolicy dateRangePolicy = mock(DateRangePolicy.class);
+    private final HolidayWarmupService warmupService = new HolidayWarmupService(holidayProviderPort, dateRangePolicy, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        when(dateRangePolicy.getCurrentRange())
+                .thenReturn(new ReminderDateRange(LocalDate.of(2025, 12, 20), LocalDate.of(2026, 12, 20)));
+    }
+
+    @Test
+    @DisplayName("warmUp should fetch every year of the allowed range concurrently")
+    void warmUp_fetchesAllYearsConcurrently() {
+        // each fetch waits for the other one, so this only finishes if both run at the same time
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(holidayProviderPort.getPublicHolidays(anyInt())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(5, TimeUnit.SECONDS);
+            return List.of(holiday(invocation.getArgument(0)));
+        });
+
+        assertThat(warmupService.isWarm()).isFalse();
+
+        List<Integer> warmed = warmupService.warmUp();
+
+        assertThat(warmed).containsExactly(2025, 2026);
+        assertThat(bothStarted.getCount()).isZero();
+        assertThat(warmupService.isWarm()).isTrue();
+        verify(holidayProviderPort).getPublicHolidays(2025);
+        verify(holidayProviderPort).getPublicHolidays(2026);
+    }
+
+    @Test
+    @DisplayName("warmUp should finish and report warm even when a year cannot be fetched")
+    void warmUp_toleratesFailedYear() {
+        when(holidayProviderPort.getPublicHolidays(2025)).thenReturn(List.of(holiday(2025)));
+        when(holidayProviderPort.getPublicHolidays(2026)).thenThrow(new IllegalStateException("down"));
+
+        List<Integer> warmed = warmupService.warmUp();
+
+        assertThat(warmed).containsExactly(2025);
+        assertThat(warmupService.isWarm()).isTrue();
+    }
+
+    private static PublicHoliday holiday(int year) {
+        return new PublicHoliday(LocalDate.of(year, 1, 1), "Naujieji metai", "New Year's Day", "LT", "Public", true);
+    }
+}
@@ -0,0 +1,129 @@
+package lt.calendar.reminders.application.holiday;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.domain.holiday.HolidayProviderPort;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WorkingDayServiceTest {
+
+    private static final Set<LocalDate> HOLIDAYS = Set.of(
+            LocalDate.of(2024, 12, 24),
+            LocalDate.of(2024, 12, 25),
+            LocalDate.of(2024, 12, 26),
+            LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 2, 17),
+            LocalDate.of(2026, 1, 1)
+    );
+
+    private final HolidayProviderPort holidayProviderPort = mock(HolidayProviderPort.class);
+    private final WorkingDayService workingDayService = new WorkingDayService(
+            new HolidayService(holidayProviderPort, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        when(holidayProviderPort.getDefaultCountryCode()).thenReturn("LT");
+        when(holidayProviderPort.getPublicHolidays(eq("LT"), anyInt())).thenAnswer(invocation -> {
+            int year = invocation.getArgument(1);
+            return HOLIDAYS.stream()
+                    .filter(date -> date.getYear() == year)
+                    .map(date -> new PublicHoliday(date, "Šventė", "Holiday", "LT", "Public", true))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("addWorkingDays should skip weekends and holidays across the year boundary")
+    void addWorkingDays_skipsDaysOffAcrossYears() {
+        // Mon 23 Dec 2024 -> 24, 25, 26 holidays, 27 Fri, 30, 31, 1 Jan holiday, 2 Jan
+        assertThat(workingDayService.addWorkingDays(LocalDate.of(2024, 12, 23), 1)).isEqualTo(LocalDate.of(2024, 12, 27));
+        assertThat(workingDayService.addWorkingDays(LocalDate.of(2024, 12, 23), 4)).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(workingDayService.addWorkingDays(LocalDate.of(2025, 1, 2), -4)).isEqualTo(LocalDate.of(2024, 12, 23));
+        // counting from a day off
+        assertThat(workingDayService.addWorkingDays(LocalDate.of(2025, 1, 1), -1)).isEqualTo(LocalDate.of(2024, 12, 31));
+        assertThat(workingDayService.addWorkingDays(LocalDate.of(2025, 2, 15), 1)).isEqualTo(LocalDate.of(2025, 2, 18));
+        assertThat(workingDayService.addWorkingDays(LocalDate.of(2025, 2, 15), 0)).isEqualTo(LocalDate.of(2025, 2, 15));
+    }
+
+    @Test
+    @DisplayName("prefix-sum results should match walking day by day")
+    void addAndCount_matchDayByDayWalk() {
+        LocalDate start = LocalDate.of(2024, 11, 1);
+        for (int offset = 0; offset < 120; offset += 7) {
+            LocalDate from = start.plusDays(offset);
+            for (int days = -300; days <= 300; days += 37) {
+                LocalDate expected = walk(from, days);
+                assertThat(workingDayService.addWorkingDays(from, days)).as("%s %+d", from, days).isEqualTo(expected);
+                assertThat(workingDayService.countWorkingDays(from, expected)).isEqualTo(days);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("countWorkingDays should count days after from up to and including to")
+    void countWorkingDays_isExclusiveOfFromAndInclusiveOfTo() {
+        assertThat(workingDayService.countWorkingDays(LocalDate.of(2025, 2, 14), LocalDate.of(2025, 2, 18))).isEqualTo(1);
+        assertThat(workingDayService.countWorkingDays(LocalDate.of(2025, 2, 18), LocalDate.of(2025, 2, 14))).isEqualTo(-1);
+        assertThat(workingDayService.countWorkingDays(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 3))).isZero();
+        assertThat(workingDayService.countWorkingDays(LocalDate.of(2024, 12, 31), LocalDate.of(2026, 12, 31)))
+                .isEqualTo(261 - 2 + 261 - 1);
+    }
+
+    @Test
+    @DisplayName("should reject spans beyond the configured limits")
+    void rejectsOversizedRequests() {
+        assertThatThrownBy(() -> workingDayService.addWorkingDays(LocalDate.of(2025, 1, 1), WorkingDayService.MAX_WORKING_DAYS + 1))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> workingDayService.countWorkingDays(LocalDate.of(2010, 1, 1), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+    }
+
+    @Test
+    @DisplayName("dates outside the supported years should be rejected as a business rule, not fail in the date arithmetic")
+    void rejectsUnsupportedYears() {
+        assertThatThrownBy(() -> workingDayService.addWorkingDays(LocalDate.MAX, 1))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> workingDayService.countWorkingDays(LocalDate.MIN, LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> workingDayService.isWorkingDay(LocalDate.of(WorkingDayService.MAX_YEAR + 1, 1, 1)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        // a supported start date whose result would leave the supported years
+        assertThatThrownBy(() -> workingDayService.addWorkingDays(LocalDate.of(WorkingDayService.MAX_YEAR, 12, 1), 100))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> workingDayService.addWorkingDays(LocalDate.of(WorkingDayService.MIN_YEAR, 1, 10), -100))
+                .isInstanceOf(BusinessRuleViolationException.class);
+    }
+
+    private static LocalDate walk(LocalDate from, int days) {
+        LocalDate date = from;
+        int step = Integer.signum(days);
+        for (int remaining = Math.abs(days); remaining > 0; ) {
+            date = date.plusDays(step);
+            if (isWorking(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    private static boolean isWorking(LocalDate date) {
+        return date.getDayOfWeek() != DayOfWeek.SATURDAY
+                && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                && !HOLIDAYS.contains(date);
+    }
+}
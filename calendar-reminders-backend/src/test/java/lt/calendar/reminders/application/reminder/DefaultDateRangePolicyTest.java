@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -78,4 +79,15 @@ class DefaultDateRangePolicyTest {
 
         assertThat(maxDate).isEqualTo(expectedMax);
     }
+
+    @Test
+    @DisplayName("getRemainingValidity should last until the next midnight and never be negative")
+    void getRemainingValidity_untilNextMidnight() {
+        ReminderDateRange range = policy.getCurrentRange();
+
+        assertThat(policy.getRemainingValidity(range)).isEqualTo(Duration.ofDays(1));
+
+        ReminderDateRange yesterdays = new ReminderDateRange(range.minDate().minusDays(1), range.maxDate().minusDays(1));
+        assertThat(policy.getRemainingValidity(yesterdays)).isEqualTo(Duration.ZERO);
+    }
 }
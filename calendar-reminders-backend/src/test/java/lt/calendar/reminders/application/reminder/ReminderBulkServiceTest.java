@@ -0,0 +1,181 @@
+package lt.calendar.reminders.application.reminder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.domain.reminder.ReminderChunkDeletion;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
+import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ReminderBulkServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    private ReminderRepositoryPort reminderRepositoryPort;
+    private DateRangePolicy dateRangePolicy;
+    private ReminderOccupancyIndex occupancyIndex;
+    private PlatformTransactionManager transactionManager;
+    private ReminderBulkService reminderBulkService;
+
+    @BeforeEach
+    void setUp() {
+        reminderRepositoryPort = mock(ReminderRepositoryPort.class);
+        dateRangePolicy = mock(DateRangePolicy.class);
+        occupancyIndex = new ReminderOccupancyIndex();
+        transactionManager = mock(PlatformTransactionManager.class);
+        reminderBulkService = new ReminderBulkService(
+                reminderRepositoryPort, dateRangePolicy, occupancyIndex, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("deleteRemindersBetween should delete a small range in one chunk")
+    void deleteRemindersBetween_fewRows_singleChunk() {
+        LocalDate to = DAY.plusDays(10);
+        occupancyIndex.increment(DAY.plusDays(3));
+        occupancyIndex.increment(DAY.plusDays(3));
+        when(reminderRepositoryPort.deleteByDateRange(DAY, to, null, ReminderBulkService.CHUNK_ROWS))
+                .thenReturn(chunk(DAY.plusDays(3), 1, 2));
+
+        int deleted = reminderBulkService.deleteRemindersBetween(DAY, to);
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(occupancyIndex.countsBetween(DAY, to)).isEmpty();
+        verify(reminderRepositoryPort, times(1)).deleteByDateRange(any(), any(), any(), anyInt());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("deleteRemindersBetween should split a heavy day into committed keyset chunks")
+    void deleteRemindersBetween_manyRows_chunkedByKeyset() {
+        ReminderChunkDeletion first = chunk(DAY, 1, ReminderBulkService.CHUNK_ROWS);
+        ReminderChunkDeletion second = chunk(DAY, ReminderBulkService.CHUNK_ROWS + 1, 7);
+        when(reminderRepositoryPort.deleteByDateRange(DAY, DAY, null, ReminderBulkService.CHUNK_ROWS)).thenReturn(first);
+        when(reminderRepositoryPort.deleteByDateRange(DAY, DAY, first.last(), ReminderBulkService.CHUNK_ROWS))
+                .thenReturn(second);
+
+        int deleted = reminderBulkService.deleteRemindersBetween(DAY, DAY);
+
+        assertThat(deleted).isEqualTo(ReminderBulkService.CHUNK_ROWS + 7);
+        verify(reminderRepositoryPort, times(2)).deleteByDateRange(any(), any(), any(), anyInt());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("deleteRemindersBetween should issue one query for a long empty range")
+    void deleteRemindersBetween_emptyRange_singleQuery() {
+        LocalDate to = DAY.plusDays(ReminderBulkService.MAX_RANGE_DAYS - 1L);
+        when(reminderRepositoryPort.deleteByDateRange(DAY, to, null, ReminderBulkService.CHUNK_ROWS))
+                .thenReturn(ReminderChunkDeletion.EMPTY);
+
+        assertThat(reminderBulkService.deleteRemindersBetween(DAY, to)).isZero();
+        verify(reminderRepositoryPort, times(1)).deleteByDateRange(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("deleteRemindersBetween should count only rows the DELETE removed and keep rows added behind the cursor")
+    void deleteRemindersBetween_concurrentChanges_countsDeletedRows() {
+        LocalDate to = DAY.plusDays(10);
+        // three selected, one of them deleted by another request in between; a fourth added after the select
+        occupancyIndex.increment(DAY);
+        occupancyIndex.increment(DAY);
+        occupancyIndex.increment(DAY);
+        List<ReminderCursor> selected = keys(DAY, 1, 3);
+        when(reminderRepositoryPort.deleteByDateRange(DAY, to, null, ReminderBulkService.CHUNK_ROWS))
+                .thenReturn(new ReminderChunkDeletion(selected, List.of(new ReminderDayCount(DAY, 2))));
+
+        int deleted = reminderBulkService.deleteRemindersBetween(DAY, to);
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(occupancyIndex.countsBetween(DAY, to)).containsExactly(new ReminderDayCount(DAY, 1));
+    }
+
+    @Test
+    @DisplayName("rescheduleReminders should move only the count the UPDATE reported")
+    void rescheduleReminders_movesReportedCount() {
+        LocalDate target = DAY.plusDays(7);
+        occupancyIndex.increment(DAY);
+        occupancyIndex.increment(DAY);
+        when(dateRangePolicy.isWithinAllowedRange(target)).thenReturn(true);
+        when(reminderRepositoryPort.moveToDate(DAY, target)).thenReturn(1);
+
+        reminderBulkService.rescheduleReminders(DAY, target);
+
+        assertThat(occupancyIndex.countsBetween(DAY, target))
+                .containsExactly(new ReminderDayCount(DAY, 1), new ReminderDayCount(target, 1));
+    }
+
+    @Test
+    @DisplayName("deleteRemindersBetween should reject ranges longer than the limit")
+    void deleteRemindersBetween_tooLongRange_throwsException() {
+        LocalDate to = DAY.plusDays(ReminderBulkService.MAX_RANGE_DAYS);
+
+        assertThatThrownBy(() -> reminderBulkService.deleteRemindersBetween(DAY, to))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Date range must not span more than 366 days");
+
+        verifyNoInteractions(reminderRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("deleteRemindersBetween should reject inverted range")
+    void deleteRemindersBetween_invertedRange_throwsException() {
+        assertThatThrownBy(() -> reminderBulkService.deleteRemindersBetween(DAY, DAY.minusDays(1)))
+                .isInstanceOf(BusinessRuleViolationException.class);
+
+        verifyNoInteractions(reminderRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("rescheduleReminders should move rows and overview counts to the target date")
+    void rescheduleReminders_movesRowsAndCounts() {
+        LocalDate target = DAY.plusDays(7);
+        occupancyIndex.increment(DAY);
+        occupancyIndex.increment(DAY);
+        occupancyIndex.increment(target);
+        when(dateRangePolicy.isWithinAllowedRange(target)).thenReturn(true);
+        when(reminderRepositoryPort.moveToDate(DAY, target)).thenReturn(2);
+
+        int moved = reminderBulkService.rescheduleReminders(DAY, target);
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(occupancyIndex.countsBetween(DAY, target)).containsExactly(new ReminderDayCount(target, 3));
+    }
+
+    @Test
+    @DisplayName("rescheduleReminders should reject target date outside the allowed range")
+    void rescheduleReminders_targetOutOfRange_throwsException() {
+        LocalDate target = DAY.plusYears(5);
+        when(dateRangePolicy.isWithinAllowedRange(target)).thenReturn(false);
+
+        assertThatThrownBy(() -> reminderBulkService.rescheduleReminders(DAY, target))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Reminder date is outside the allowed range");
+
+        verifyNoInteractions(reminderRepositoryPort);
+    }
+
+    private static ReminderChunkDeletion chunk(LocalDate date, long firstId, int count) {
+        return new ReminderChunkDeletion(keys(date, firstId, count), List.of(new ReminderDayCount(date, count)));
+    }
+
+    private static List<ReminderCursor> keys(LocalDate date, long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> new ReminderCursor(date, LocalTime.NOON, id))
+                .toList();
+    }
+}
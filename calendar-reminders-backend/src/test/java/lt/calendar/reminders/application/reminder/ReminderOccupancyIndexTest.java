@@ -0,0 +1,96 @@
+package lt.calendar.reminders.application.reminder;
+
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderOccupancyIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 5, 10);
+
+    private ReminderOccupancyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReminderOccupancyIndex();
+    }
+
+    @Test
+    @DisplayName("rebuild should replace all counters and skip empty days")
+    void rebuild_replacesCounters() {
+        index.increment(DAY.minusDays(10));
+
+        index.rebuild(List.of(
+                new ReminderDayCount(DAY, 3),
+                new ReminderDayCount(DAY.plusDays(1), 0)
+        ));
+
+        assertThat(index.countsBetween(DAY.minusYears(1), DAY.plusYears(1)))
+                .containsExactly(new ReminderDayCount(DAY, 3));
+    }
+
+    @Test
+    @DisplayName("increment and decrement should track counts and drop days that reach zero")
+    void incrementAndDecrement_trackCounts() {
+        index.increment(DAY);
+        index.increment(DAY);
+        index.decrement(DAY);
+
+        assertThat(index.countsBetween(DAY, DAY)).containsExactly(new ReminderDayCount(DAY, 1));
+
+        index.decrement(DAY);
+        index.decrement(DAY);
+
+        assertThat(index.countsBetween(DAY, DAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("countsBetween should be inclusive and ordered by date")
+    void countsBetween_inclusiveAndOrdered() {
+        index.increment(DAY.plusDays(2));
+        index.increment(DAY);
+        index.increment(DAY.plusDays(3));
+        index.clear(DAY.plusDays(3));
+
+        assertThat(index.countsBetween(DAY, DAY.plusDays(3)))
+                .extracting(ReminderDayCount::date)
+                .containsExactly(DAY, DAY.plusDays(2));
+    }
+
+    @Test
+    @DisplayName("dayVersionTag should change only for days whose reminders changed")
+    void dayVersionTag_changesOnlyForTouchedDays() {
+        index.increment(DAY);
+        String day = index.dayVersionTag(DAY);
+        String emptyDay = index.dayVersionTag(DAY.plusDays(1));
+
+        index.decrement(DAY, 1);
+
+        assertThat(index.dayVersionTag(DAY)).isNotEqualTo(day);
+        assertThat(index.dayVersionTag(DAY.plusDays(1))).isEqualTo(emptyDay);
+
+        String beforeMove = index.dayVersionTag(DAY.plusDays(1));
+        index.move(DAY, DAY.plusDays(1), 0);
+
+        assertThat(index.dayVersionTag(DAY.plusDays(1))).isNotEqualTo(beforeMove);
+    }
+
+    @Test
+    @DisplayName("move should shift only the moved count and keep reminders added since on the source day")
+    void move_shiftsOnlyMovedCount() {
+        index.increment(DAY);
+        index.increment(DAY);
+        index.increment(DAY);
+
+        index.move(DAY, DAY.plusDays(1), 2);
+
+        assertThat(index.countsBetween(DAY, DAY.plusDays(1)))
+                .containsExactly(new ReminderDayCount(DAY, 1), new ReminderDayCount(DAY.plusDays(1), 2));
+    }
+}
@@ -1,25 +1,37 @@
 package lt.calendar.reminders.application.reminder;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.application.exception.ReminderConflictException;
 import lt.calendar.reminders.application.exception.ReminderNotFoundException;
 import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
 import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
+import lt.calendar.reminders.domain.reminder.ReminderVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.*;
+import java.util.List;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ReminderServiceTest {
 
     private ReminderRepositoryPort reminderRepositoryPort;
     private DateRangePolicy dateRangePolicy;
+    private ReminderOccupancyIndex occupancyIndex;
     private ReminderService reminderService;
 
     private Clock clock;
@@ -29,7 +41,8 @@ class ReminderServiceTest {
         clock = Clock.systemDefaultZone();
         reminderRepositoryPort = mock(ReminderRepositoryPort.class);
         dateRangePolicy = mock(DateRangePolicy.class);
-        reminderService = new ReminderService(reminderRepositoryPort, dateRangePolicy);
+        occupancyIndex = new ReminderOccupancyIndex();
+        reminderService = new ReminderService(reminderRepositoryPort, dateRangePolicy, occupancyIndex, new SimpleMeterRegistry());
     }
 
 
@@ -101,38 +114,25 @@ class ReminderServiceTest {
     }
 
     @Test
-    @DisplayName("updateReminder should update existing reminder")
+    @DisplayName("updateReminder should update existing reminder with one conditional update")
     void updateReminder_existing_updatesFields() {
         LocalDate originalDate = LocalDate.now(clock).plusDays(2);
-        LocalTime originalTime = LocalTime.of(9, 0);
+        LocalDateTime createdAt = LocalDateTime.now(clock).minusDays(1);
 
         LocalDate newDate = LocalDate.now(clock).plusDays(3);
         LocalTime newTime = LocalTime.of(11, 0);
 
-        Reminder existing = Reminder.builder()
-                .id(42L)
-                .text("Original")
-                .date(originalDate)
-                .time(originalTime)
-                .build();
-
         Reminder updatedInput = Reminder.builder()
                 .text("Updated text")
                 .date(newDate)
                 .time(newTime)
                 .build();
 
-        Reminder saved = Reminder.builder()
-                .id(42L)
-                .text("Updated text")
-                .date(newDate)
-                .time(newTime)
-                .build();
-
-        when(reminderRepositoryPort.findById(42L)).thenReturn(Optional.of(existing));
+        when(reminderRepositoryPort.findVersionById(42L))
+                .thenReturn(Optional.of(new ReminderVersion(42L, originalDate, createdAt, 3L)));
         when(dateRangePolicy.isWithinAllowedRange(newDate)).thenReturn(true);
-
-        when(reminderRepositoryPort.save(any(Reminder.class))).thenReturn(saved);
+        when(reminderRepositoryPort.updateIfVersion(any(Reminder.class), eq(3L)))
+                .thenReturn(Optional.of(new ReminderVersion(42L, originalDate, createdAt, 3L)));
 
         Reminder result = reminderService.updateReminder(42L, updatedInput);
 
@@ -140,9 +140,14 @@ class ReminderServiceTest {
         assertThat(result.getText()).isEqualTo("Updated text");
         assertThat(result.getDate()).isEqualTo(newDate);
         assertThat(result.getTime()).isEqualTo(newTime);
+        assertThat(result.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(result.getUpdatedAt()).isNotNull();
+        assertThat(result.getVersion()).isEqualTo(4L);
 
-        verify(reminderRepositoryPort).findById(42L);
-        verify(reminderRepositoryPort).save(any(Reminder.class));
+        verify(reminderRepositoryPort).findVersionById(42L);
+        verify(reminderRepositoryPort).updateIfVersion(any(Reminder.class), eq(3L));
+        verify(reminderRepositoryPort, never()).findById(any());
+        verify(reminderRepositoryPort, never()).save(any(Reminder.class));
     }
 
     @Test
@@ -151,7 +156,8 @@ class ReminderServiceTest {
         LocalDate validDate = LocalDate.now(clock).plusDays(1);
         LocalTime time = LocalTime.of(10, 0);
 
-        when(reminderRepositoryPort.findById(999L)).thenReturn(Optional.empty());
+        when(reminderRepositoryPort.findVersionById(999L)).thenReturn(Optional.empty());
+        when(dateRangePolicy.isWithinAllowedRange(validDate)).thenReturn(true);
 
         Reminder updatedInput = Reminder.builder()
                 .text("Does not matter")
@@ -163,8 +169,256 @@ class ReminderServiceTest {
                 .isInstanceOf(ReminderNotFoundException.class)
                 .hasMessageContaining("Reminder not found with id");
 
-        verify(reminderRepositoryPort).findById(999L);
-        verify(reminderRepositoryPort, never()).save(any(Reminder.class));
+        verify(reminderRepositoryPort).findVersionById(999L);
+        verify(reminderRepositoryPort, never()).updateIfVersion(any(Reminder.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("updateReminder should throw conflict when expected version does not match")
+    void updateReminder_staleVersion_throwsConflict() {
+        LocalDate date = LocalDate.now(clock).plusDays(1);
+        when(reminderRepositoryPort.findVersionById(7L))
+                .thenReturn(Optional.of(new ReminderVersion(7L, date, LocalDateTime.now(clock), 5L)));
+        when(dateRangePolicy.isWithinAllowedRange(date)).thenReturn(true);
+        when(reminderRepositoryPort.updateIfVersion(any(Reminder.class), eq(4L))).thenReturn(Optional.empty());
+
+        Reminder updatedInput = Reminder.builder().text("x").date(date).time(LocalTime.NOON).build();
+
+        assertThatThrownBy(() -> reminderService.updateReminder(7L, updatedInput, List.of(4L)))
+                .isInstanceOf(ReminderConflictException.class)
+                .hasMessageContaining("has version 5, expected one of [4]");
+
+        // a single If-Match version goes straight to the conditional update; the lookup only explains the miss
+        verify(reminderRepositoryPort).updateIfVersion(any(Reminder.class), eq(4L));
+        verify(reminderRepositoryPort).findVersionById(7L);
+    }
+
+    @Test
+    @DisplayName("updateReminder should throw conflict when the row changes before the update")
+    void updateReminder_concurrentModification_throwsConflict() {
+        LocalDate date = LocalDate.now(clock).plusDays(1);
+        when(reminderRepositoryPort.findVersionById(7L))
+                .thenReturn(Optional.of(new ReminderVersion(7L, date, LocalDateTime.now(clock), 5L)));
+        when(dateRangePolicy.isWithinAllowedRange(date)).thenReturn(true);
+        when(reminderRepositoryPort.updateIfVersion(any(Reminder.class), eq(5L))).thenReturn(Optional.empty());
+
+        Reminder updatedInput = Reminder.builder().text("x").date(date).time(LocalTime.NOON).build();
+
+        assertThatThrownBy(() -> reminderService.updateReminder(7L, updatedInput))
+                .isInstanceOf(ReminderConflictException.class);
+    }
+
+    @Test
+    @DisplayName("deleteReminder should issue one conditional delete")
+    void deleteReminder_existing_conditionalDelete() {
+        LocalDate date = LocalDate.now(clock).plusDays(1);
+        occupancyIndex.increment(date);
+        when(reminderRepositoryPort.findVersionById(8L))
+                .thenReturn(Optional.of(new ReminderVersion(8L, date, LocalDateTime.now(clock), 2L)));
+        when(reminderRepositoryPort.deleteIfVersion(8L, 2L))
+                .thenReturn(Optional.of(new ReminderVersion(8L, date, LocalDateTime.now(clock), 2L)));
+
+        reminderService.deleteReminder(8L, List.of(1L, 2L));
+
+        verify(reminderRepositoryPort).deleteIfVersion(8L, 2L);
+        assertThat(occupancyIndex.countsBetween(date, date)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteReminder should throw not found for missing reminder")
+    void deleteReminder_notFound_throwsException() {
+        when(reminderRepositoryPort.findVersionById(404L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> reminderService.deleteReminder(404L))
+                .isInstanceOf(ReminderNotFoundException.class);
+
+        verify(reminderRepositoryPort, never()).deleteIfVersion(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("getReminders should return next cursor when more rows than limit exist")
+    void getReminders_moreRowsThanLimit_returnsNextCursor() {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 1, 31);
+
+        Reminder first = Reminder.builder().id(1L).text("a").date(from).time(LocalTime.of(9, 0)).build();
+        Reminder second = Reminder.builder().id(2L).text("b").date(from).time(LocalTime.of(10, 0)).build();
+        Reminder third = Reminder.builder().id(3L).text("c").date(from).time(LocalTime.of(11, 0)).build();
+
+        when(reminderRepositoryPort.findPage(from, to, null, 3)).thenReturn(List.of(first, second, third));
+
+        ReminderPage page = reminderService.getReminders(from, to, null, 2);
+
+        assertThat(page.reminders()).containsExactly(first, second);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new ReminderCursor(from, LocalTime.of(10, 0), 2L));
+    }
+
+    @Test
+    @DisplayName("getReminders should return no cursor on the last page")
+    void getReminders_lastPage_returnsNoCursor() {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 1, 31);
+        ReminderCursor after = new ReminderCursor(from, LocalTime.of(10, 0), 2L);
+
+        Reminder last = Reminder.builder().id(3L).text("c").date(from).time(LocalTime.of(11, 0)).build();
+
+        when(reminderRepositoryPort.findPage(from, to, after, 3)).thenReturn(List.of(last));
+
+        ReminderPage page = reminderService.getReminders(from, to, after, 2);
+
+        assertThat(page.reminders()).containsExactly(last);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("getReminders should use open bounds when from and to are missing")
+    void getReminders_missingBounds_usesOpenRange() {
+        when(reminderRepositoryPort.findPage(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        reminderService.getReminders(null, null, null, 10);
+
+        verify(reminderRepositoryPort).findPage(eq(LocalDate.of(1, 1, 1)), eq(LocalDate.of(9999, 12, 31)), eq(null), eq(11));
+    }
+
+    @Test
+    @DisplayName("getReminders should reject inverted range and invalid page size")
+    void getReminders_invalidArguments_throwException() {
+        LocalDate date = LocalDate.of(2030, 1, 1);
+
+        assertThatThrownBy(() -> reminderService.getReminders(date, date.minusDays(1), null, 10))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> reminderService.getReminders(date, date, null, 0))
+                .isInstanceOf(BusinessRuleViolationException.class);
+        assertThatThrownBy(() -> reminderService.getReminders(date, date, null, ReminderService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BusinessRuleViolationException.class);
+
+        verifyNoInteractions(reminderRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("getOccupancy should reflect startup rebuild and later writes")
+    void getOccupancy_tracksRebuildAndWrites() {
+        LocalDate day = LocalDate.of(2030, 3, 1);
+        LocalDate otherDay = day.plusDays(1);
+
+        when(reminderRepositoryPort.countByDate()).thenReturn(List.of(new ReminderDayCount(day, 2)));
+        reminderService.rebuildOccupancyIndex();
+
+        Reminder created = Reminder.builder().id(5L).text("new").date(otherDay).time(LocalTime.NOON).build();
+        when(dateRangePolicy.isWithinAllowedRange(otherDay)).thenReturn(true);
+        when(reminderRepositoryPort.save(any(Reminder.class))).thenReturn(created);
+        reminderService.createReminder(created);
+
+        when(reminderRepositoryPort.findVersionById(7L))
+                .thenReturn(Optional.of(new ReminderVersion(7L, day, LocalDateTime.now(clock), 0L)));
+        when(reminderRepositoryPort.deleteIfVersion(7L, 0L))
+                .thenReturn(Optional.of(new ReminderVersion(7L, day, LocalDateTime.now(clock), 0L)));
+        reminderService.deleteReminder(7L);
+
+        assertThat(reminderService.getOccupancy(day, otherDay)).containsExactly(
+                new ReminderDayCount(day, 1),
+                new ReminderDayCount(otherDay, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("getOccupancy should default to the allowed range and move counts on update")
+    void getOccupancy_defaultsToAllowedRange() {
+        LocalDate min = LocalDate.of(2030, 1, 1);
+        LocalDate max = min.plusYears(1);
+        LocalDate originalDate = min.plusDays(5);
+        LocalDate newDate = min.plusDays(6);
+
+        when(dateRangePolicy.getCurrentRange()).thenReturn(new ReminderDateRange(min, max));
+        occupancyIndex.increment(originalDate);
+        occupancyIndex.increment(max.plusDays(1));
+
+        Reminder moved = Reminder.builder().id(9L).text("x").date(newDate).time(LocalTime.NOON).build();
+        when(reminderRepositoryPort.findVersionById(9L))
+                .thenReturn(Optional.of(new ReminderVersion(9L, originalDate, LocalDateTime.now(clock), 0L)));
+        when(dateRangePolicy.isWithinAllowedRange(newDate)).thenReturn(true);
+        when(reminderRepositoryPort.updateIfVersion(any(Reminder.class), eq(0L)))
+                .thenReturn(Optional.of(new ReminderVersion(9L, originalDate, LocalDateTime.now(clock), 0L)));
+
+        reminderService.updateReminder(9L, moved);
+
+        assertThat(reminderService.getOccupancy(null, null)).containsExactly(new ReminderDayCount(newDate, 1));
+    }
+
+    @Test
+    @DisplayName("exportReminders should pass every streamed reminder to the sink")
+    @SuppressWarnings("unchecked")
+    void exportReminders_forwardsStreamedReminders() {
+        Reminder first = Reminder.builder().id(1L).text("a").date(LocalDate.of(2030, 1, 1)).time(LocalTime.NOON).build();
+        Reminder second = Reminder.builder().id(2L).text("b").date(LocalDate.of(2030, 1, 2)).time(LocalTime.NOON).build();
+
+        when(reminderRepositoryPort.streamAll(any())).thenAnswer(invocation -> {
+            Consumer<Reminder> consumer = invocation.getArgument(0);
+            consumer.accept(first);
+            consumer.accept(second);
+            return 2L;
+        });
+
+        List<Reminder> received = new ArrayList<>();
+        long exported = reminderService.exportReminders(received::add);
+
+        assertThat(exported).isEqualTo(2L);
+        assertThat(received).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("createReminders should save all reminders and count them in the overview")
+    void createReminders_validBatch_savesAll() {
+        LocalDate min = LocalDate.of(2030, 1, 1);
+        when(dateRangePolicy.getCurrentRange()).thenReturn(new ReminderDateRange(min, min.plusYears(1)));
+
+        List<Reminder> input = List.of(
+                Reminder.builder().text("a").date(min).time(LocalTime.NOON).build(),
+                Reminder.builder().text("b").date(min).time(LocalTime.MIDNIGHT).build()
+        );
+        List<Reminder> saved = List.of(
+                Reminder.builder().id(1L).text("a").date(min).time(LocalTime.NOON).build(),
+                Reminder.builder().id(2L).text("b").date(min).time(LocalTime.MIDNIGHT).build()
+        );
+        when(reminderRepositoryPort.saveAll(input)).thenReturn(saved);
+
+        List<Reminder> result = reminderService.createReminders(input);
+
+        assertThat(result).containsExactlyElementsOf(saved);
+        assertThat(occupancyIndex.countsBetween(min, min)).containsExactly(new ReminderDayCount(min, 2));
+        verify(dateRangePolicy, times(1)).getCurrentRange();
+    }
+
+    @Test
+    @DisplayName("createReminders should reject the whole batch and report invalid indexes")
+    void createReminders_invalidDates_rejectsBatch() {
+        LocalDate min = LocalDate.of(2030, 1, 1);
+        LocalDate max = min.plusYears(1);
+        when(dateRangePolicy.getCurrentRange()).thenReturn(new ReminderDateRange(min, max));
+
+        List<Reminder> input = List.of(
+                Reminder.builder().text("ok").date(min).time(LocalTime.NOON).build(),
+                Reminder.builder().text("past").date(min.minusDays(1)).time(LocalTime.NOON).build(),
+                Reminder.builder().text("far").date(max.plusDays(1)).time(LocalTime.NOON).build()
+        );
+
+        assertThatThrownBy(() -> reminderService.createReminders(input))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessage("Reminder date is outside the allowed range at indexes [1, 2]");
+
+        verifyNoInteractions(reminderRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("createReminders should reject empty and oversized batches")
+    void createReminders_invalidSize_throwsException() {
+        assertThatThrownBy(() -> reminderService.createReminders(List.of()))
+                .isInstanceOf(BusinessRuleViolationException.class)
+                .hasMessageContaining("Batch size must be between 1 and");
+
+        verifyNoInteractions(reminderRepositoryPort);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,270 @@
+package lt.calendar.reminders.infrastructure.holiday.cache;
+
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidayCacheTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+    private static final Duration MAX_NEGATIVE_TTL = Duration.ofSeconds(100);
+
+    private MutableClock clock;
+    private List<Runnable> refreshTasks;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        refreshTasks = new ArrayList<>();
+        loads = new AtomicInteger();
+    }
+
+    private HolidayCache<Integer> cache(Function<Integer, List<PublicHoliday>> loader) {
+        return cache(loader, 100);
+    }
+
+    private HolidayCache<Integer> cache(Function<Integer, List<PublicHoliday>> loader, int maxEntries) {
+        return new HolidayCache<>(year -> {
+            loads.incrementAndGet();
+            return loader.apply(year);
+        }, TTL, NEGATIVE_TTL, MAX_NEGATIVE_TTL, clock, refreshTasks::add, maxEntries);
+    }
+
+    @Test
+    @DisplayName("get should load once and serve fresh entries from memory")
+    void get_servesFreshEntries() {
+        HolidayCache<Integer> cache = cache(year -> List.of(holiday(year, 1)));
+
+        cache.get(2025);
+        clock.advance(TTL.minusSeconds(1));
+        List<PublicHoliday> result = cache.get(2025);
+
+        assertThat(result).extracting(PublicHoliday::date).containsExactly(LocalDate.of(2025, 1, 1));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("expired entries should be served while one background refresh replaces them")
+    void get_staleWhileRevalidate() {
+        AtomicInteger month = new AtomicInteger(1);
+        HolidayCache<Integer> cache = cache(year -> List.of(holiday(year, month.get())));
+        cache.get(2025);
+
+        clock.advance(TTL);
+        month.set(2);
+
+        assertThat(cache.get(2025)).extracting(PublicHoliday::date).containsExactly(LocalDate.of(2025, 1, 1));
+        assertThat(cache.get(2025)).extracting(PublicHoliday::date).containsExactly(LocalDate.of(2025, 1, 1));
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.getFirst().run();
+
+        assertThat(cache.get(2025)).extracting(PublicHoliday::date).containsExactly(LocalDate.of(2025, 2, 1));
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().staleHits()).isEqualTo(2);
+        assertThat(cache.stats().refreshes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a failed refresh should keep the last good list and retry only after the backoff")
+    void get_failedRefreshKeepsStaleValue() {
+        AtomicInteger calls = new AtomicInteger();
+        HolidayCache<Integer> cache = cache(year -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IllegalStateException("down");
+            }
+            return List.of(holiday(year, 1));
+        });
+        cache.get(2025);
+
+        clock.advance(TTL);
+        cache.get(2025);
+        refreshTasks.getFirst().run();
+
+        assertThat(cache.get(2025)).hasSize(1);
+        clock.advance(NEGATIVE_TTL.minusSeconds(1));
+        assertThat(cache.get(2025)).hasSize(1);
+        assertThat(refreshTasks).hasSize(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.get(2025);
+        assertThat(refreshTasks).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("failures should be cached as empty results with doubling backoff")
+    void get_negativeCachingWithBackoff() {
+        HolidayCache<Integer> cache = cache(year -> {
+            throw new IllegalStateException("down");
+        });
+
+        assertThat(cache.get(2025)).isEmpty();
+        clock.advance(NEGATIVE_TTL.minusSeconds(1));
+        assertThat(cache.get(2025)).isEmpty();
+        assertThat(loads).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.get(2025);
+        assertThat(loads).hasValue(2);
+
+        // second failure waits twice as long
+        clock.advance(NEGATIVE_TTL.plusSeconds(1));
+        cache.get(2025);
+        assertThat(loads).hasValue(2);
+
+        clock.advance(NEGATIVE_TTL);
+        cache.get(2025);
+        assertThat(loads).hasValue(3);
+        assertThat(cache.stats().failures()).isEqualTo(3);
+        assertThat(cache.stats().negativeHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("concurrent misses for the same key should share one load")
+    void get_singleFlight() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HolidayCache<Integer> cache = cache(year -> {
+            loaderStarted.countDown();
+            await(release);
+            return List.of(holiday(year, 1));
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<List<PublicHoliday>>> results = new ArrayList<>();
+            results.add(CompletableFuture.supplyAsync(() -> cache.get(2025), callers));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> cache.get(2025), callers));
+            }
+
+            release.countDown();
+
+            for (CompletableFuture<List<PublicHoliday>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).hasSize(1);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("one-off keys should be evicted before keys that are read again")
+    void get_boundedSegmentedLru() {
+        HolidayCache<Integer> cache = cache(year -> List.of(holiday(year, 1)), 5);
+        List<Integer> popular = List.of(2024, 2025, 2026, 2027);
+        popular.forEach(cache::get);
+        popular.forEach(cache::get);
+
+        for (int year = 1900; year < 1920; year++) {
+            cache.get(year);
+        }
+        int loadsBefore = loads.get();
+        popular.forEach(cache::get);
+
+        assertThat(loads).hasValue(loadsBefore);
+        assertThat(cache.stats().size()).isEqualTo(5);
+        assertThat(cache.stats().evictions()).isEqualTo(19);
+
+        cache.get(1900);
+        assertThat(loads).hasValue(loadsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("reads of promoted keys should not wait for the cache lock")
+    void get_promotedKey_lockFree() throws Exception {
+        HolidayCache<Integer> cache = cache(year -> List.of(holiday(year, 1)));
+        cache.get(2025);
+        cache.get(2025);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            synchronized (cache) {
+                locked.countDown();
+                await(release);
+            }
+        });
+        holder.start();
+        try {
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+            List<PublicHoliday> holidays = CompletableFuture.supplyAsync(() -> cache.get(2025)).get(1, TimeUnit.SECONDS);
+            assertThat(holidays).extracting(PublicHoliday::date).containsExactly(LocalDate.of(2025, 1, 1));
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    private static PublicHoliday holiday(int year, int month) {
+        return PublicHoliday.builder()
+                .date(LocalDate.of(year, month, 1))
+                .localName("Holiday")
+                .englishName("Holiday")
+                .countryCode("LT")
+                .type("Public")
+                .global(true)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
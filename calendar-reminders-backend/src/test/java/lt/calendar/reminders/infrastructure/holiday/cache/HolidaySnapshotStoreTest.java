@@ -0,0 +1,78 @@
+package lt.calendar.reminders.infrastructure.holiday.cache;
+
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidaySnapshotStoreTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2025-03-01T10:15:30Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("save and load should round-trip holidays and fetch time per year")
+    void saveAndLoad_roundTrip() {
+        Path file = tempDir.resolve("snapshots/holidays.bin");
+        PublicHoliday holiday = PublicHoliday.builder()
+                .date(LocalDate.of(2025, 2, 16))
+                .localName("Valstybės atkūrimo diena")
+                .englishName("Restoration of the State Day")
+                .countryCode("LT")
+                .type(null)
+                .global(true)
+                .build();
+
+        new HolidaySnapshotStore(file, "LT").save(2025, List.of(holiday), FETCHED_AT);
+        Map<Integer, HolidaySnapshotStore.SnapshotYear> loaded = new HolidaySnapshotStore(file, "LT").load();
+
+        assertThat(loaded).containsOnlyKeys(2025);
+        assertThat(loaded.get(2025).holidays()).containsExactly(holiday);
+        assertThat(loaded.get(2025).fetchedAt()).isEqualTo(FETCHED_AT);
+    }
+
+    @Test
+    @DisplayName("load should ignore a snapshot with a broken checksum")
+    void load_ignoresCorruptedFile() throws Exception {
+        Path file = tempDir.resolve("holidays.bin");
+        new HolidaySnapshotStore(file, "LT").save(2025, List.of(holiday(2025)), FETCHED_AT);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 12] ^= 0x7F;
+        Files.write(file, bytes);
+
+        assertThat(new HolidaySnapshotStore(file, "LT").load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("load should ignore a snapshot taken for another country or a missing file")
+    void load_ignoresOtherCountryAndMissingFile() {
+        Path file = tempDir.resolve("holidays.bin");
+        new HolidaySnapshotStore(file, "LV").save(2025, List.of(holiday(2025)), FETCHED_AT);
+
+        assertThat(new HolidaySnapshotStore(file, "LT").load()).isEmpty();
+        assertThat(new HolidaySnapshotStore(tempDir.resolve("missing.bin"), "LT").load()).isEmpty();
+    }
+
+    private static PublicHoliday holiday(int year) {
+        return PublicHoliday.builder()
+                .date(LocalDate.of(year, 1, 1))
+                .localName("Naujieji metai")
+                .englishName("New Year's Day")
+                .countryCode("LT")
+                .type("Public")
+                .global(true)
+                .build();
+    }
+}
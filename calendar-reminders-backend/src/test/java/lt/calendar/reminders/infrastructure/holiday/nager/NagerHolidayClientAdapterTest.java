@@ -1,17 +1,27 @@
 package lt.calendar.reminders.infrastructure.holiday.nager;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import lt.calendar.reminders.infrastructure.holiday.cache.HolidaySnapshotStore;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.http.MediaType;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.test.web.client.MockRestServiceServer;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.times;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
@@ -21,6 +31,7 @@ class NagerHolidayClientAdapterTest {
     private MockRestServiceServer server;
     private NagerHolidayProperties properties;
     private NagerHolidayClientAdapter adapter;
+    private SimpleMeterRegistry meterRegistry;
 
     private String getBaseUrlFromProperties(int year) {
         return properties.getBaseUrl()
@@ -30,6 +41,8 @@ class NagerHolidayClientAdapterTest {
                 + properties.getCountryCode();
     }
 
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
     @BeforeEach
     void setUp() {
         // Use a RestTemplate we can attach the mock server to
@@ -39,8 +52,15 @@ class NagerHolidayClientAdapterTest {
         this.properties = new NagerHolidayProperties();
         properties.setBaseUrl("https://date.nager.at/api/v3");
         properties.setCountryCode("LT");
+        properties.setOfflineFallback(false);
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.adapter = new NagerHolidayClientAdapter(restTemplate, properties, meterRegistry, clock);
+    }
 
-        this.adapter = new NagerHolidayClientAdapter(restTemplate, properties);
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
     }
 
     @Test
@@ -126,6 +146,37 @@ class NagerHolidayClientAdapterTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("Nager calls should be timed per outcome")
+    void getPublicHolidays_recordsCallOutcome() {
+        server.expect(requestTo(getBaseUrlFromProperties(2025))).andRespond(withServerError());
+        server.expect(requestTo(getBaseUrlFromProperties(2026))).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        adapter.getPublicHolidays(2025);
+        adapter.getPublicHolidays(2026);
+
+        server.verify();
+        assertThat(meterRegistry.get("holiday.nager.requests").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("holiday.nager.requests").tag("outcome", "empty").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("holiday.nager.requests").tag("outcome", "success").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("getPublicHolidays should fall back to offline holidays when API fails and nothing is cached")
+    void getPublicHolidays_fallsBackToOfflineOnError() {
+        properties.setOfflineFallback(true);
+        NagerHolidayClientAdapter withFallback = new NagerHolidayClientAdapter(restTemplate, properties, meterRegistry, clock);
+        server.expect(requestTo(getBaseUrlFromProperties(2025))).andRespond(withServerError());
+        server.expect(requestTo(properties.getBaseUrl() + "/PublicHolidays/2025/LV")).andRespond(withServerError());
+
+        List<PublicHoliday> result = withFallback.getPublicHolidays(2025);
+        List<PublicHoliday> latvia = withFallback.getPublicHolidays("LV", 2025);
+
+        server.verify();
+        assertThat(result).isEqualTo(new OfflineHolidayProvider().getPublicHolidays(2025));
+        assertThat(latvia).isEmpty();
+    }
+
     @Test
     @DisplayName("getPublicHolidays should return empty list when API returns empty array")
     void getPublicHolidays_returnsEmptyListWhenBodyEmpty() {
@@ -203,6 +254,55 @@ class NagerHolidayClientAdapterTest {
         assertThat(result.get(1).date()).isEqualTo(LocalDate.of(year, 2, 16));
     }
 
+    @Test
+    @DisplayName("getPublicHolidays should fetch and cache each country separately")
+    void getPublicHolidays_cacheIsPerCountry() {
+        String urlLt = getBaseUrlFromProperties(2025);
+        String urlLv = properties.getBaseUrl() + "/PublicHolidays/2025/LV";
+
+        String jsonLt = """
+                [
+                  {
+                    "date": "2025-02-16",
+                    "localName": "Lietuvos valstybės atkūrimo diena",
+                    "name": "The Day of Restoration of the State of Lithuania",
+                    "countryCode": "LT",
+                    "fixed": true,
+                    "global": true,
+                    "type": "Public"
+                  }
+                ]
+                """;
+
+        String jsonLv = """
+                [
+                  {
+                    "date": "2025-11-18",
+                    "localName": "Latvijas Republikas proklamēšanas diena",
+                    "name": "Proclamation Day of the Republic of Latvia",
+                    "countryCode": "LV",
+                    "fixed": true,
+                    "global": true,
+                    "type": "Public"
+                  }
+                ]
+                """;
+
+        server.expect(requestTo(urlLt)).andRespond(withSuccess(jsonLt, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(urlLv)).andRespond(withSuccess(jsonLv, MediaType.APPLICATION_JSON));
+
+        List<PublicHoliday> lithuania = adapter.getPublicHolidays(2025);
+        List<PublicHoliday> latvia = adapter.getPublicHolidays("LV", 2025);
+
+        assertThat(adapter.getPublicHolidays("LT", 2025)).isSameAs(lithuania);
+        assertThat(adapter.getPublicHolidays("LV", 2025)).isSameAs(latvia);
+        server.verify();
+
+        assertThat(lithuania).extracting(PublicHoliday::countryCode).containsExactly("LT");
+        assertThat(latvia).extracting(PublicHoliday::countryCode).containsExactly("LV");
+        assertThat(adapter.cacheStats().size()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("getPublicHolidays should not reuse cache across different years")
     void getPublicHolidays_cacheIsPerYear() {
@@ -272,5 +372,72 @@ class NagerHolidayClientAdapterTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("getPublicHolidays should persist fetched years and serve them after a restart without the API")
+    void getPublicHolidays_servesSnapshotAfterRestart(@TempDir Path tempDir) {
+        int year = 2025;
+        properties.setSnapshotPath(tempDir.resolve("holidays.bin").toString());
+        adapter = new NagerHolidayClientAdapter(restTemplate, properties, meterRegistry, clock);
 
+        String json = """
+                [
+                  {
+                    "date": "2025-03-11",
+                    "localName": "Lietuvos nepriklausomybės atkūrimo diena",
+                    "name": "Day of Restoration of Independence of Lithuania",
+                    "countryCode": "LT",
+                    "fixed": true,
+                    "global": true,
+                    "type": "Public"
+                  }
+                ]
+                """;
+        server.expect(requestTo(getBaseUrlFromProperties(year))).andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        adapter.getPublicHolidays(year);
+        server.verify();
+
+        // a fresh adapter with a RestTemplate that has no expectations: any API call would fail
+        RestTemplate offline = new RestTemplate();
+        MockRestServiceServer offlineServer = MockRestServiceServer.createServer(offline);
+        List<PublicHoliday> restored = new NagerHolidayClientAdapter(offline, properties, meterRegistry, clock).getPublicHolidays(year);
+
+        offlineServer.verify();
+        assertThat(restored).extracting(PublicHoliday::date).containsExactly(LocalDate.of(year, 3, 11));
+        // stamped with the injected clock, which decides when the restored year goes stale
+        assertThat(new HolidaySnapshotStore(tempDir.resolve("holidays.bin"), "LT").load().get(year).fetchedAt())
+                .isEqualTo(clock.instant());
+    }
+
+    @Test
+    @DisplayName("getPublicHolidays should refresh stale years inline once the adapter is shut down")
+    void getPublicHolidays_afterShutdown_refreshesInline() {
+        int year = 2025;
+        properties.setCacheTtl(Duration.ZERO);
+        adapter = new NagerHolidayClientAdapter(restTemplate, properties, meterRegistry, clock);
+
+        String json = """
+                [
+                  {
+                    "date": "2025-01-01",
+                    "localName": "Naujieji metai",
+                    "name": "New Year's Day",
+                    "countryCode": "LT",
+                    "fixed": true,
+                    "global": true,
+                    "type": "Public"
+                  }
+                ]
+                """;
+        server.expect(times(2), requestTo(getBaseUrlFromProperties(year)))
+                .andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+
+        adapter.getPublicHolidays(year);
+        adapter.shutdown();
+        List<PublicHoliday> stale = adapter.getPublicHolidays(year);
+
+        // no refresh thread left, so the second call must have gone to the API on the caller's thread
+        server.verify();
+        assertThat(stale).extracting(PublicHoliday::date).containsExactly(LocalDate.of(year, 1, 1));
+    }
 }
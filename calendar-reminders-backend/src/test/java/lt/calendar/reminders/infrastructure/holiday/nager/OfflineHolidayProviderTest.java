@@ -0,0 +1,133 @@
+package lt.calendar.reminders.infrastructure.holiday.nager;
+
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OfflineHolidayProviderTest {
+
+    private final OfflineHolidayProvider provider = new OfflineHolidayProvider();
+
+    @ParameterizedTest
+    @CsvSource({
+            "1991, 1991-03-31",
+            "2000, 2000-04-23",
+            "2019, 2019-04-21",
+            "2024, 2024-03-31",
+            "2025, 2025-04-20",
+            "2026, 2026-04-05",
+            "2027, 2027-03-28",
+            "2038, 2038-04-25",
+            "2285, 2285-03-22"
+    })
+    @DisplayName("easterSunday should match published Gregorian Easter dates")
+    void easterSunday_matchesKnownDates(int year, LocalDate expected) {
+        assertThat(OfflineHolidayProvider.easterSunday(year)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("getPublicHolidays should match the Nager LT list for 2025")
+    void getPublicHolidays_2025_matchesNager() {
+        assertThat(provider.getPublicHolidays(2025))
+                .extracting(PublicHoliday::date)
+                .containsExactly(
+                        LocalDate.of(2025, 1, 1),
+                        LocalDate.of(2025, 2, 16),
+                        LocalDate.of(2025, 3, 11),
+                        LocalDate.of(2025, 4, 20),
+                        LocalDate.of(2025, 4, 21),
+                        LocalDate.of(2025, 5, 1),
+                        LocalDate.of(2025, 5, 4),
+                        LocalDate.of(2025, 6, 1),
+                        LocalDate.of(2025, 6, 24),
+                        LocalDate.of(2025, 7, 6),
+                        LocalDate.of(2025, 8, 15),
+                        LocalDate.of(2025, 11, 1),
+                        LocalDate.of(2025, 11, 2),
+                        LocalDate.of(2025, 12, 24),
+                        LocalDate.of(2025, 12, 25),
+                        LocalDate.of(2025, 12, 26));
+    }
+
+    @Test
+    @DisplayName("getPublicHolidays should keep names and flags of the previous static data")
+    void getPublicHolidays_2026_namesAndFlags() {
+        List<PublicHoliday> holidays = provider.getPublicHolidays(2026);
+
+        assertThat(holidays).hasSize(16);
+        assertThat(holidays).allSatisfy(holiday -> {
+            assertThat(holiday.countryCode()).isEqualTo("LT");
+            assertThat(holiday.type()).isEqualTo("Public");
+            assertThat(holiday.global()).isTrue();
+        });
+        assertThat(holidays)
+                .filteredOn(holiday -> holiday.date().equals(LocalDate.of(2026, 4, 6)))
+                .singleElement()
+                .satisfies(holiday -> {
+                    assertThat(holiday.localName()).isEqualTo("Antroji Velykų diena");
+                    assertThat(holiday.englishName()).isEqualTo("Easter Monday");
+                });
+        assertThat(holidays)
+                .extracting(PublicHoliday::date)
+                .contains(LocalDate.of(2026, 5, 3), LocalDate.of(2026, 6, 7));
+    }
+
+    @Test
+    @DisplayName("All Souls' Day should only be a holiday from 2020 on")
+    void getPublicHolidays_allSoulsDaySince2020() {
+        assertThat(provider.getPublicHolidays(2019))
+                .extracting(PublicHoliday::date)
+                .doesNotContain(LocalDate.of(2019, 11, 2))
+                .hasSize(15);
+        assertThat(provider.getPublicHolidays(2020))
+                .extracting(PublicHoliday::date)
+                .contains(LocalDate.of(2020, 11, 2));
+    }
+
+    @Test
+    @DisplayName("Christmas Eve should only be a holiday from 2012 on")
+    void getPublicHolidays_christmasEveSince2012() {
+        assertThat(provider.getPublicHolidays(2011))
+                .extracting(PublicHoliday::date)
+                .doesNotContain(LocalDate.of(2011, 12, 24))
+                .hasSize(14);
+        assertThat(provider.getPublicHolidays(2012))
+                .extracting(PublicHoliday::date)
+                .contains(LocalDate.of(2012, 12, 24))
+                .hasSize(15);
+    }
+
+    @Test
+    @DisplayName("years before the current rules hold should get no offline holidays")
+    void getPublicHolidays_beforeFirstYear_isEmpty() {
+        assertThat(provider.getPublicHolidays(OfflineHolidayProvider.FIRST_YEAR - 1)).isEmpty();
+        assertThat(provider.getPublicHolidays(OfflineHolidayProvider.FIRST_YEAR))
+                .extracting(PublicHoliday::date)
+                .contains(LocalDate.of(OfflineHolidayProvider.FIRST_YEAR, 6, 24))
+                .hasSize(14);
+    }
+
+    @Test
+    @DisplayName("getPublicHolidays should serve table years from the precomputed table and compute others")
+    void getPublicHolidays_tableAndComputedYears() {
+        assertThat(provider.getPublicHolidays(2030)).isSameAs(provider.getPublicHolidays(2030));
+        assertThat(provider.getPublicHolidays(OfflineHolidayProvider.LAST_TABLE_YEAR + 1))
+                .isEqualTo(OfflineHolidayProvider.computeHolidays(OfflineHolidayProvider.LAST_TABLE_YEAR + 1))
+                .hasSize(16);
+    }
+
+    @Test
+    @DisplayName("getPublicHolidays should only know Lithuania")
+    void getPublicHolidays_otherCountryIsEmpty() {
+        assertThat(provider.getDefaultCountryCode()).isEqualTo("LT");
+        assertThat(provider.getPublicHolidays("LT", 2025)).isSameAs(provider.getPublicHolidays(2025));
+        assertThat(provider.getPublicHolidays("LV", 2025)).isEmpty();
+    }
+}
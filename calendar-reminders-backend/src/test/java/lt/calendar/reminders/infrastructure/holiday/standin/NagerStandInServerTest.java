@@ -0,0 +1,94 @@
+package lt.calendar.reminders.infrastructure.holiday.standin;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.domain.holiday.PublicHoliday;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayClientAdapter;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayProperties;
+import lt.calendar.reminders.infrastructure.holiday.nager.OfflineHolidayProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NagerStandInServerTest {
+
+    private NagerStandInProperties standInProperties;
+    private NagerStandInServer server;
+
+    @BeforeEach
+    void setUp() {
+        standInProperties = new NagerStandInProperties();
+        standInProperties.setPort(0);
+        standInProperties.setLatencyMedian(Duration.ofMillis(1));
+        standInProperties.setLatencyP99(Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("the real adapter should read Nager-shaped holidays from the stand-in")
+    void servesHolidaysToAdapter() {
+        NagerHolidayClientAdapter adapter = adapter(Duration.ofSeconds(2));
+
+        List<PublicHoliday> lithuania = adapter.getPublicHolidays(2025);
+        List<PublicHoliday> latvia = adapter.getPublicHolidays("LV", 2025);
+
+        assertThat(lithuania).isEqualTo(new OfflineHolidayProvider().getPublicHolidays(2025));
+        assertThat(latvia).extracting(PublicHoliday::date)
+                .containsExactly(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 25));
+        assertThat(server.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("injected errors should reach the adapter as failures")
+    void injectsErrors() {
+        standInProperties.setErrorRate(1.0);
+        NagerHolidayClientAdapter adapter = adapter(Duration.ofSeconds(2));
+
+        assertThat(adapter.getPublicHolidays(2025)).isEmpty();
+        assertThat(adapter.cacheStats().failures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("injected hangs should be cut off by the client read timeout")
+    void injectsHangs() {
+        standInProperties.setTimeoutRate(1.0);
+        standInProperties.setHangDuration(Duration.ofSeconds(5));
+        NagerHolidayClientAdapter adapter = adapter(Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        assertThat(adapter.getPublicHolidays(2025)).isEmpty();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        assertThat(adapter.cacheStats().failures()).isEqualTo(1);
+    }
+
+    private NagerHolidayClientAdapter adapter(Duration readTimeout) {
+        server = new NagerStandInServer(standInProperties);
+        server.start();
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(1));
+        requestFactory.setReadTimeout(readTimeout);
+
+        NagerHolidayProperties properties = new NagerHolidayProperties();
+        properties.setBaseUrl(server.baseUrl());
+        properties.setCountryCode("LT");
+        properties.setOfflineFallback(false);
+        return new NagerHolidayClientAdapter(new RestTemplate(requestFactory), properties, new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+}
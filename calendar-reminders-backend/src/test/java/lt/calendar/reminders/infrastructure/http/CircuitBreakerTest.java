@@ -0,0 +1,77 @@
+package lt.calendar.reminders.infrastructure.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("should open after consecutive failures and refuse calls while open")
+    void opensAfterThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, Duration.ofSeconds(30), Clock.fixed(START, ZoneOffset.UTC));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onFailure();
+        }
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onSuccess();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onFailure();
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should let one probe through after the open duration and close or reopen on its result")
+    void halfOpenProbe() {
+        Instant[] now = {START};
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ofSeconds(30), clock);
+        breaker.tryAcquirePermission();
+        breaker.onFailure();
+
+        now[0] = START.plusSeconds(30);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        now[0] = START.plusSeconds(60);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+}
@@ -0,0 +1,144 @@
+package lt.calendar.reminders.infrastructure.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ResilientHttpInterceptorTest {
+
+    private static final String URL = "https://example.test/api";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private ResilientHttpInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, Duration.ofMinutes(1), Clock.systemUTC());
+        interceptor = new ResilientHttpInterceptor("test", 1, Duration.ofMillis(50), breaker, meterRegistry);
+
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.createServer(restTemplate);
+        restTemplate.getInterceptors().add(interceptor);
+    }
+
+    @Test
+    @DisplayName("server errors should open the circuit, after which calls fail fast without reaching the server")
+    void serverErrorsOpenCircuit() {
+        server.expect(ExpectedCount.twice(), requestTo(URL)).andRespond(withServerError());
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(URL, String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThatThrownBy(() -> restTemplate.getForObject(URL, String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasCauseInstanceOf(ResilientHttpInterceptor.CallNotPermittedException.class);
+
+        server.verify();
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("http.client.guarded").tag("outcome", "short_circuited").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("client errors are answers and should not count against the circuit")
+    void clientErrorsKeepCircuitClosed() {
+        server.expect(ExpectedCount.times(3), requestTo(URL)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(URL, String.class))
+                    .isInstanceOf(HttpClientErrorException.NotFound.class);
+        }
+
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("a call should be rejected when the bulkhead stays full for longer than the wait")
+    void bulkheadRejectsWhenFull() throws Exception {
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.expect(requestTo(URL)).andRespond(request -> {
+            inCall.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return withSuccess("ok", null).createResponse(request);
+        });
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> restTemplate.getForObject(URL, String.class));
+        assertThat(inCall.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(URL, String.class))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("busy");
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(interceptor.availableSlots()).isEqualTo(1);
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("the slot should stay taken while the body is read and be freed when the response is closed")
+    void slotHeldUntilResponseClosed() {
+        server.expect(requestTo(URL)).andRespond(withSuccess("ok", MediaType.TEXT_PLAIN));
+
+        int slotsWhileReading = restTemplate.execute(URL, HttpMethod.GET, null, response -> {
+            StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+            return interceptor.availableSlots();
+        });
+
+        assertThat(slotsWhileReading).isZero();
+        assertThat(interceptor.availableSlots()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("closing a response twice should free its slot only once")
+    void slotReleasedOnlyOnce() throws Exception {
+        HttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create(URL));
+        ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+                (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        assertThat(interceptor.availableSlots()).isZero();
+        response.close();
+        response.close();
+
+        assertThat(interceptor.availableSlots()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,52 @@
+package lt.calendar.reminders.infrastructure.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingManager manager = new FlightRecordingManager(new FlightRecordingProperties());
+    private final FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(manager);
+
+    @AfterEach
+    void tearDown() {
+        manager.discard();
+    }
+
+    @Test
+    @DisplayName("start should answer 409 while running and 400 for out-of-bounds arguments")
+    void start_mapsErrorsToStatus() {
+        assertThat(endpoint.start(Duration.ofDays(1), null).getStatus()).isEqualTo(400);
+        assertThat(endpoint.start(Duration.ofSeconds(30), null).getStatus()).isEqualTo(200);
+        assertThat(endpoint.start(Duration.ofSeconds(30), null).getStatus()).isEqualTo(409);
+        assertThat(endpoint.status().state()).isEqualTo("RUNNING");
+    }
+
+    @Test
+    @DisplayName("stop should stream the .jfr file and delete it once read")
+    void stop_streamsAndDeletesRecording() throws Exception {
+        assertThat(endpoint.stop().getStatus()).isEqualTo(404);
+        endpoint.start(null, null);
+
+        WebEndpointResponse<Resource> response = endpoint.stop();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        Resource resource = response.getBody();
+        Path file = resource.getFile().toPath();
+        try (InputStream in = resource.getInputStream()) {
+            byte[] magic = in.readNBytes(4);
+            assertThat(new String(magic)).isEqualTo("FLR\0");
+        }
+        assertThat(Files.exists(file)).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package lt.calendar.reminders.infrastructure.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lt.calendar.reminders.util.jfr.NagerFetchEvent;
+import lt.calendar.reminders.util.jfr.ReminderQueryEvent;
+import lt.calendar.reminders.util.jfr.ReminderServiceEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecordingManagerTest {
+
+    private FlightRecordingManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new FlightRecordingManager(new FlightRecordingProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.discard();
+    }
+
+    @Test
+    @DisplayName("a stopped recording should contain the custom reminder and Nager events but no environment")
+    void stop_returnsRecordingWithCustomEvents() throws Exception {
+        manager.start(Duration.ofMinutes(1), DataSize.ofMegabytes(16));
+
+        ReminderServiceEvent serviceEvent = new ReminderServiceEvent();
+        serviceEvent.begin();
+        ReminderQueryEvent queryEvent = new ReminderQueryEvent();
+        queryEvent.begin();
+        queryEvent.finish("findByDate", LocalDate.of(2026, 3, 11), 3);
+        serviceEvent.finish("getRemindersForDate", LocalDate.of(2026, 3, 11), 3);
+        NagerFetchEvent fetchEvent = new NagerFetchEvent();
+        fetchEvent.begin();
+        fetchEvent.finish("LT", 2026, 14, "success");
+
+        Path file = manager.stop().orElseThrow();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            RecordedEvent query = single(events, ReminderQueryEvent.NAME);
+            assertThat(query.getString("query")).isEqualTo("findByDate");
+            assertThat(query.getString("date")).isEqualTo("2026-03-11");
+            assertThat(query.getLong("rows")).isEqualTo(3);
+
+            RecordedEvent service = single(events, ReminderServiceEvent.NAME);
+            assertThat(service.getString("method")).isEqualTo("getRemindersForDate");
+            assertThat(service.getDuration()).isGreaterThanOrEqualTo(query.getDuration());
+
+            RecordedEvent fetch = single(events, NagerFetchEvent.NAME);
+            assertThat(fetch.getString("country")).isEqualTo("LT");
+            assertThat(fetch.getInt("holidays")).isEqualTo(14);
+            assertThat(fetch.getString("outcome")).isEqualTo("success");
+
+            assertThat(events).extracting(event -> event.getEventType().getName())
+                    .doesNotContainAnyElementsOf(FlightRecordingManager.SENSITIVE_EVENTS);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertThat(manager.status().state()).isEqualTo("NONE");
+    }
+
+    @Test
+    @DisplayName("only one recording should run at a time")
+    void start_whileRunning_throws() {
+        FlightRecordingStatus status = manager.start(null, null);
+
+        assertThat(status.state()).isEqualTo("RUNNING");
+        assertThat(status.duration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(status.maxSizeBytes()).isEqualTo(DataSize.ofMegabytes(64).toBytes());
+        assertThatThrownBy(() -> manager.start(null, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("duration and size beyond the configured bounds should be rejected")
+    void start_outOfBounds_throws() {
+        assertThatThrownBy(() -> manager.start(Duration.ofHours(1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> manager.start(Duration.ZERO, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> manager.start(null, DataSize.ofGigabytes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(manager.status().state()).isEqualTo("NONE");
+    }
+
+    @Test
+    @DisplayName("stop without a recording should return empty")
+    void stop_withoutRecording_returnsEmpty() {
+        assertThat(manager.stop()).isEmpty();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,45 @@
+package lt.calendar.reminders.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.infrastructure.holiday.cache.HolidayCacheStats;
+import lt.calendar.reminders.infrastructure.holiday.nager.NagerHolidayClientAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HolidayCacheMetricsTest {
+
+    @Test
+    @DisplayName("cache counters and hit ratio should be read from the adapter's cache stats")
+    void bindTo_publishesCacheStats() {
+        NagerHolidayClientAdapter adapter = mock(NagerHolidayClientAdapter.class);
+        when(adapter.cacheStats()).thenReturn(new HolidayCacheStats(6, 1, 1, 2, 1, 3, 4, 5));
+        ObjectProvider<NagerHolidayClientAdapter> provider = mock();
+        when(provider.getIfAvailable()).thenReturn(adapter);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new HolidayCacheMetrics(provider).bindTo(registry);
+
+        assertThat(registry.get("holiday.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(6);
+        assertThat(registry.get("holiday.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("holiday.cache.failures").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("holiday.cache.evictions").functionCounter().count()).isEqualTo(4);
+        assertThat(registry.get("holiday.cache.size").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("holiday.cache.hit.ratio").gauge().value()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("nothing should be bound without the Nager adapter")
+    void bindTo_withoutAdapter_bindsNothing() {
+        ObjectProvider<NagerHolidayClientAdapter> provider = mock();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new HolidayCacheMetrics(provider).bindTo(registry);
+
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package lt.calendar.reminders.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.calendar.reminders.infrastructure.persistence.cache.CachingReminderRepositoryAdapter;
+import lt.calendar.reminders.infrastructure.persistence.cache.ReminderDayCacheStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReminderDayCacheMetricsTest {
+
+    @Test
+    @DisplayName("cache counters and hit ratio should be read from the adapter's stats")
+    void bindTo_publishesCacheStats() {
+        CachingReminderRepositoryAdapter adapter = mock(CachingReminderRepositoryAdapter.class);
+        when(adapter.stats()).thenReturn(new ReminderDayCacheStats(6, 2, 3, 4, 5));
+        ObjectProvider<CachingReminderRepositoryAdapter> provider = mock();
+        when(provider.getIfAvailable()).thenReturn(adapter);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new ReminderDayCacheMetrics(provider).bindTo(registry);
+
+        assertThat(registry.get("reminder.day.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(6);
+        assertThat(registry.get("reminder.day.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("reminder.day.cache.evictions").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("reminder.day.cache.invalidations").functionCounter().count()).isEqualTo(4);
+        assertThat(registry.get("reminder.day.cache.size").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("reminder.day.cache.hit.ratio").gauge().value()).isEqualTo(0.75);
+    }
+
+    @Test
+    @DisplayName("nothing should be bound while the cache is disabled")
+    void bindTo_withoutCache_bindsNothing() {
+        ObjectProvider<CachingReminderRepositoryAdapter> provider = mock();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new ReminderDayCacheMetrics(provider).bindTo(registry);
+
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
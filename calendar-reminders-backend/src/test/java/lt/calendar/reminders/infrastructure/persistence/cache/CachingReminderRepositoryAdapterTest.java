@@ -0,0 +1,198 @@
+package lt.calendar.reminders.infrastructure.persistence.cache;
+
+import lt.calendar.reminders.domain.reminder.Reminder;
+import lt.calendar.reminders.domain.reminder.ReminderChunkDeletion;
+import lt.calendar.reminders.domain.reminder.ReminderCursor;
+import lt.calendar.reminders.domain.reminder.ReminderDayCount;
+import lt.calendar.reminders.domain.reminder.ReminderRepositoryPort;
+import lt.calendar.reminders.domain.reminder.ReminderVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class CachingReminderRepositoryAdapterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 5, 10);
+    private static final LocalDate OTHER_DAY = DAY.plusDays(1);
+
+    private ReminderRepositoryPort delegate;
+    private CachingReminderRepositoryAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ReminderRepositoryPort.class);
+        cache = new CachingReminderRepositoryAdapter(delegate, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("findByDate should load a day once and serve repeats from the cache")
+    void findByDate_readThrough() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of(reminder(1L, DAY)));
+
+        List<Reminder> first = cache.findByDate(DAY);
+        List<Reminder> second = cache.findByDate(DAY);
+
+        assertThat(second).isSameAs(first).extracting(Reminder::getId).containsExactly(1L);
+        assertThatThrownBy(() -> second.add(reminder(2L, DAY))).isInstanceOf(UnsupportedOperationException.class);
+        verify(delegate, times(1)).findByDate(DAY);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("cache should evict the least recently used day when full")
+    void findByDate_evictsLeastRecentlyUsed() {
+        LocalDate thirdDay = DAY.plusDays(2);
+        when(delegate.findByDate(any())).thenReturn(List.of());
+
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+        cache.findByDate(DAY);
+        cache.findByDate(thirdDay);
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+
+        verify(delegate, times(1)).findByDate(DAY);
+        verify(delegate, times(2)).findByDate(OTHER_DAY);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("save should invalidate only the reminder's day")
+    void save_invalidatesTouchedDay() {
+        when(delegate.findByDate(any())).thenReturn(List.of());
+        when(delegate.save(any())).thenAnswer(inv -> withId(inv.getArgument(0), 5L));
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+
+        cache.save(reminder(null, DAY));
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+
+        verify(delegate, times(2)).findByDate(DAY);
+        verify(delegate, times(1)).findByDate(OTHER_DAY);
+    }
+
+    @Test
+    @DisplayName("updateIfVersion should invalidate both the old and the new day")
+    void updateIfVersion_invalidatesOldAndNewDay() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of(reminder(1L, DAY)));
+        when(delegate.findByDate(OTHER_DAY)).thenReturn(List.of());
+        when(delegate.updateIfVersion(any(), anyLong()))
+                .thenReturn(Optional.of(new ReminderVersion(1L, DAY, LocalDateTime.of(2030, 1, 1, 9, 0), 0L)));
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+
+        cache.updateIfVersion(reminder(1L, OTHER_DAY), 0L);
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+
+        verify(delegate, times(2)).findByDate(DAY);
+        verify(delegate, times(2)).findByDate(OTHER_DAY);
+    }
+
+    @Test
+    @DisplayName("failed conditional writes should leave the cache untouched")
+    void conditionalWriteMiss_keepsCache() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of(reminder(1L, DAY)));
+        when(delegate.deleteIfVersion(1L, 3L)).thenReturn(Optional.empty());
+        cache.findByDate(DAY);
+
+        cache.deleteIfVersion(1L, 3L);
+        cache.findByDate(DAY);
+
+        verify(delegate, times(1)).findByDate(DAY);
+        assertThat(cache.stats().invalidations()).isZero();
+    }
+
+    @Test
+    @DisplayName("deleteByDateRange should invalidate the cached days of the deleted chunk")
+    void deleteByDateRange_invalidatesRange() {
+        when(delegate.findByDate(any())).thenReturn(List.of());
+        when(delegate.deleteByDateRange(DAY, DAY, null, 10))
+                .thenReturn(new ReminderChunkDeletion(
+                        List.of(new ReminderCursor(DAY, LocalTime.NOON, 1L)), List.of(new ReminderDayCount(DAY, 1))));
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+
+        cache.deleteByDateRange(DAY, DAY, null, 10);
+        cache.findByDate(DAY);
+        cache.findByDate(OTHER_DAY);
+
+        verify(delegate, times(2)).findByDate(DAY);
+        verify(delegate, times(1)).findByDate(OTHER_DAY);
+    }
+
+    @Test
+    @DisplayName("invalidation should wait for the transaction to commit")
+    void invalidation_deferredUntilCommit() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of());
+        cache.findByDate(DAY);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.deleteByDate(DAY);
+        cache.findByDate(DAY);
+        verify(delegate, times(1)).findByDate(DAY);
+
+        List<TransactionSynchronization> synchronizations = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        cache.findByDate(DAY);
+
+        verify(delegate, times(2)).findByDate(DAY);
+    }
+
+    @Test
+    @DisplayName("a load should only be dropped when its own day is invalidated while it runs")
+    void findByDate_racingInvalidation_perDay() {
+        // the invalidations happen while the delegate is still loading DAY
+        when(delegate.findByDate(DAY)).thenAnswer(invocation -> {
+            cache.deleteByDate(OTHER_DAY);
+            return List.of(reminder(1L, DAY));
+        }).thenAnswer(invocation -> {
+            cache.deleteByDate(DAY);
+            return List.of(reminder(1L, DAY));
+        }).thenReturn(List.of(reminder(1L, DAY)));
+
+        cache.findByDate(DAY);
+        cache.findByDate(DAY);
+        verify(delegate, times(1)).findByDate(DAY);
+
+        cache.deleteByDate(DAY);
+        cache.findByDate(DAY);
+        cache.findByDate(DAY);
+        cache.findByDate(DAY);
+        verify(delegate, times(3)).findByDate(DAY);
+    }
+
+    private static Reminder reminder(Long id, LocalDate date) {
+        return Reminder.builder().id(id).text("Reminder " + id).date(date).time(LocalTime.NOON).build();
+    }
+
+    private static Reminder withId(Reminder reminder, Long id) {
+        return Reminder.builder().id(id).text(reminder.getText()).date(reminder.getDate()).time(reminder.getTime()).build();
+    }
+}
@@ -0,0 +1,35 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("literals, comments and whitespace should be normalized away")
+    void of_replacesLiteralsAndComments() {
+        String sql = "/* delete by date */ delete from reminders\n   where reminder_date = '2026-03-11' and version = 3 -- tail";
+
+        assertThat(SqlFingerprint.of(sql)).isEqualTo("delete from reminders where reminder_date = ? and version = ?");
+    }
+
+    @Test
+    @DisplayName("IN lists of different lengths should share one fingerprint")
+    void of_collapsesInLists() {
+        String two = "select r1_0.id from reminders r1_0 where r1_0.id in (?, ?)";
+        String five = "select r1_0.id from reminders r1_0 where r1_0.id IN (?,?,?,?,?)";
+
+        assertThat(SqlFingerprint.of(two)).isEqualTo("select r1_0.id from reminders r1_0 where r1_0.id in (?...)");
+        assertThat(SqlFingerprint.of(five)).isEqualTo(SqlFingerprint.of(two));
+    }
+
+    @Test
+    @DisplayName("quotes inside string literals and identifiers with digits should survive")
+    void of_keepsIdentifiers() {
+        String sql = "update reminders set reminder_text = 'it''s 5' where id = 42";
+
+        assertThat(SqlFingerprint.of(sql)).isEqualTo("update reminders set reminder_text = ? where id = ?");
+    }
+}
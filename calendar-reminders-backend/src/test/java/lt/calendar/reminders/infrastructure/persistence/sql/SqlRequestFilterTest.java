@@ -0,0 +1,84 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlRequestFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private SqlStatementProperties properties;
+    private SqlRequestFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new SqlStatementProperties();
+        properties.setStatementBudget(2);
+        filter = new SqlRequestFilter(registry, properties);
+    }
+
+    @Test
+    @DisplayName("statements and rows should be recorded per route and the request context cleared")
+    void doFilter_recordsStatementsPerRoute() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/reminders"), new MockHttpServletResponse(),
+                new MockFilterChain(new StatementIssuingServlet("/reminders", 2)));
+
+        assertThat(registry.get(SqlRequestFilter.STATEMENTS_METRIC).tag("uri", "/reminders").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(registry.get(SqlRequestFilter.ROWS_METRIC).tag("uri", "/reminders").summary().totalAmount())
+                .isEqualTo(20);
+        assertThat(registry.find(SqlRequestFilter.BUDGET_EXCEEDED_METRIC).counter()).isNull();
+        assertThat(SqlRequestStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("a request over its statement budget should be counted")
+    void doFilter_overBudget_isCounted() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/reminders"), new MockHttpServletResponse(),
+                new MockFilterChain(new StatementIssuingServlet("/reminders", 5)));
+
+        assertThat(registry.get(SqlRequestFilter.BUDGET_EXCEEDED_METRIC)
+                .tags("method", "DELETE", "uri", "/reminders").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a route budget should override the default one")
+    void doFilter_routeBudget_overridesDefault() throws Exception {
+        properties.getRouteBudgets().put("/reminders/batch", 10);
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/reminders/batch"), new MockHttpServletResponse(),
+                new MockFilterChain(new StatementIssuingServlet("/reminders/batch", 5)));
+
+        assertThat(registry.find(SqlRequestFilter.BUDGET_EXCEEDED_METRIC).counter()).isNull();
+    }
+
+    private static final class StatementIssuingServlet extends HttpServlet {
+
+        private final String pattern;
+        private final int statements;
+
+        private StatementIssuingServlet(String pattern, int statements) {
+            this.pattern = pattern;
+            this.statements = statements;
+        }
+
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            for (int i = 0; i < statements; i++) {
+                SqlRequestStats.current().recordStatement("delete from reminders where id = " + i, 10, 1_000);
+            }
+        }
+    }
+}
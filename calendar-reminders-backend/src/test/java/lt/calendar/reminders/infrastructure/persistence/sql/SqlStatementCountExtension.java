@@ -0,0 +1,134 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements a block of test code issues, by kind, through the application's datasource-proxy
+ * (calendar.sql.enabled must be on). Only statements on the calling thread are counted, and id sequence
+ * fetches are left out: with a pooled sequence they depend on how many ids earlier tests used up.
+ * <pre>
+ * &#64;RegisterExtension
+ * final SqlStatementCountExtension sql = new SqlStatementCountExtension();
+ *
+ * sql.assertStatements(SqlStatementCounts.selects(1), () -> mockMvc.perform(get("/reminders")));
+ * </pre>
+ */
+public class SqlStatementCountExtension implements BeforeEachCallback {
+
+    private static final Pattern SEQUENCE_FETCH = Pattern.compile("(?i)\\bnext\\s+value\\s+for\\b|\\bnextval\\s*\\(");
+
+    private static final ThreadLocal<Recording> ACTIVE = new ThreadLocal<>();
+    // one counting listener per proxied DataSource, shared by all tests of a cached Spring context
+    private static final Set<ProxyConfig> INSTALLED = Collections.newSetFromMap(new WeakHashMap<>());
+
+    @FunctionalInterface
+    public interface StatementBlock<T> {
+        T run() throws Exception;
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        DataSource dataSource = applicationContext.getBean(DataSource.class);
+        if (!(dataSource instanceof ProxyDataSource proxy)) {
+            throw new IllegalStateException("SQL statement counting needs the datasource proxy (calendar.sql.enabled=true)");
+        }
+        synchronized (INSTALLED) {
+            if (INSTALLED.add(proxy.getProxyConfig())) {
+                proxy.getProxyConfig().getQueryListener().addListener(new CountingListener());
+            }
+        }
+    }
+
+    /**
+     * Runs the block and returns the statements it issued.
+     */
+    public SqlStatementCounts count(StatementBlock<?> block) throws Exception {
+        Recording recording = new Recording();
+        record(recording, block);
+        return recording.counts();
+    }
+
+    /**
+     * Runs the block and fails unless it issued exactly the expected statements, listing them when it did not.
+     * Returns what the block returned, so a request's result can still be read afterwards.
+     */
+    public <T> T assertStatements(SqlStatementCounts expected, StatementBlock<T> block) throws Exception {
+        Recording recording = new Recording();
+        T result = record(recording, block);
+        if (!recording.counts().equals(expected)) {
+            throw new AssertionError("Expected " + expected + " but was " + recording.counts()
+                    + ", statements:\n  " + String.join("\n  ", recording.statements));
+        }
+        return result;
+    }
+
+    private static <T> T record(Recording recording, StatementBlock<T> block) throws Exception {
+        ACTIVE.set(recording);
+        try {
+            return block.run();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    private static final class Recording {
+
+        private int selects;
+        private int inserts;
+        private int updates;
+        private int deletes;
+        private int other;
+        private final List<String> statements = new ArrayList<>();
+
+        void record(String sql) {
+            switch (SqlStatementListener.kindOf(sql)) {
+                case "select" -> selects++;
+                case "insert" -> inserts++;
+                case "update" -> updates++;
+                case "delete" -> deletes++;
+                default -> other++;
+            }
+            statements.add(SqlFingerprint.of(sql));
+        }
+
+        SqlStatementCounts counts() {
+            return new SqlStatementCounts(selects, inserts, updates, deletes, other);
+        }
+    }
+
+    private static final class CountingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Recording recording = ACTIVE.get();
+            if (recording == null || queryInfoList.isEmpty()) {
+                return;
+            }
+            String sql = queryInfoList.get(0).getQuery();
+            if (!SEQUENCE_FETCH.matcher(sql).find()) {
+                recording.record(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+/**
+ * JDBC executions by statement kind, as counted by SqlStatementCountExtension; a batch counts once.
+ */
+public record SqlStatementCounts(int selects, int inserts, int updates, int deletes, int other) {
+
+    public static SqlStatementCounts none() {
+        return new SqlStatementCounts(0, 0, 0, 0, 0);
+    }
+
+    public static SqlStatementCounts selects(int selects) {
+        return new SqlStatementCounts(selects, 0, 0, 0, 0);
+    }
+
+    public static SqlStatementCounts of(int selects, int inserts, int updates, int deletes) {
+        return new SqlStatementCounts(selects, inserts, updates, deletes, 0);
+    }
+
+    public int total() {
+        return selects + inserts + updates + deletes + other;
+    }
+}
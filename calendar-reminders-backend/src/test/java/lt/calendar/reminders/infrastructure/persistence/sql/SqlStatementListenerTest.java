@@ -0,0 +1,126 @@
+package lt.calendar.reminders.infrastructure.persistence.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementListenerTest {
+
+    private SimpleMeterRegistry registry;
+    private SqlStatementProperties properties;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        registry = new SimpleMeterRegistry();
+        properties = new SqlStatementProperties();
+        keepAlive = h2().getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("create table items (id int primary key, name varchar(20))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        SqlRequestStats.close();
+        keepAlive.close();
+    }
+
+    @Test
+    @DisplayName("statements, changed rows and read rows should be added to the current request")
+    void statementsInRequest_areCountedWithRows() throws SQLException {
+        DataSource dataSource = proxy();
+        SqlRequestStats stats = SqlRequestStats.open();
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("insert into items values (?, ?)")) {
+                for (int i = 1; i <= 3; i++) {
+                    insert.setInt(1, i);
+                    insert.setString(2, "item " + i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            for (int i = 1; i <= 2; i++) {
+                try (PreparedStatement select = connection.prepareStatement("select * from items where id >= ?")) {
+                    select.setInt(1, i);
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        while (resultSet.next()) {
+                            resultSet.getString("name");
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(stats.rows()).isEqualTo(3 + 3 + 2);
+        assertThat(stats.timeNanos()).isPositive();
+        assertThat(stats.topFingerprints(1)).containsExactly("2 x select * from items where id >= ?");
+        assertThat(registry.get(SqlStatementListener.STATEMENTS_METRIC).tag("kind", "insert").timer().count()).isEqualTo(1);
+        assertThat(registry.get(SqlStatementListener.STATEMENTS_METRIC).tag("kind", "select").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("statements outside a request should only reach the global metrics")
+    void statementsOutsideRequest_onlyRecordMetrics() throws SQLException {
+        try (Connection connection = proxy().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("delete from items");
+        }
+
+        assertThat(SqlRequestStats.current()).isNull();
+        assertThat(registry.get(SqlStatementListener.STATEMENTS_METRIC).tag("kind", "delete").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("statements slower than the threshold should be counted as slow")
+    void slowStatement_isCounted() throws SQLException {
+        properties.setSlowQueryThreshold(Duration.ZERO);
+
+        try (Connection connection = proxy().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("select count(*) from items").close();
+        }
+
+        assertThat(registry.get(SqlStatementListener.SLOW_METRIC).tag("kind", "select").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("statement kind should come from the leading keyword")
+    void kindOf_readsLeadingKeyword() {
+        assertThat(SqlStatementListener.kindOf("  SELECT 1")).isEqualTo("select");
+        assertThat(SqlStatementListener.kindOf("with x as (select 1) select * from x")).isEqualTo("select");
+        assertThat(SqlStatementListener.kindOf("update items set name = ?")).isEqualTo("update");
+        assertThat(SqlStatementListener.kindOf("call next value for reminders_seq")).isEqualTo("other");
+        assertThat(SqlStatementListener.kindOf("select id from OLD TABLE (update items set name = ?)")).isEqualTo("update");
+        assertThat(SqlStatementListener.kindOf("select id from old table(delete from items where id = ?)")).isEqualTo("delete");
+    }
+
+    private DataSource proxy() {
+        return ProxyDataSourceBuilder.create("test", h2())
+                .listener(new SqlStatementListener(registry, properties))
+                .proxyResultSet(RowCountingResultSetProxyLogic.FACTORY)
+                .build();
+    }
+
+    private static DataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:sql_listener_test;DB_CLOSE_DELAY=0");
+        return dataSource;
+    }
+}
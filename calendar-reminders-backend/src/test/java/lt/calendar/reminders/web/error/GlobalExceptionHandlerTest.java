@@ -2,6 +2,7 @@ package lt.calendar.reminders.web.error;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.application.exception.ReminderConflictException;
 import lt.calendar.reminders.application.exception.ReminderNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -148,4 +149,21 @@ class GlobalExceptionHandlerTest {
         assertThat(body.getMessage()).isEqualTo("Invalid value 'foo' for parameter 'year'");
         assertThat(body.getPath()).isEqualTo("/holidays");
     }
+
+    @Test
+    @DisplayName("handleConflict should return 412 with If-Match and 409 without it")
+    void handleConflict_returns412Or409() {
+        ReminderConflictException ex = new ReminderConflictException("Reminder with id 42 was modified concurrently");
+
+        MockHttpServletRequest withIfMatch = requestWithPath("/reminders/42");
+        withIfMatch.addHeader("If-Match", "\"1\"");
+
+        assertThat(handler.handleConflict(ex, withIfMatch).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleConflict(ex, requestWithPath("/reminders/42"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Reminder with id 42 was modified concurrently");
+    }
 }
\ No newline at end of file
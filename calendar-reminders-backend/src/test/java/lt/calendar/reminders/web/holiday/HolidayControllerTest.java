@@ -18,10 +18,13 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -77,7 +80,7 @@ class HolidayControllerTest {
                 true
         );
 
-        when(holidayService.getPublicHolidays(anyInt())).thenReturn(List.of(domainHoliday));
+        when(holidayService.getPublicHolidays(isNull(), anyInt())).thenReturn(List.of(domainHoliday));
         when(holidayApiMapper.toResponse(domainHoliday)).thenReturn(responseDto);
 
         mockMvc.perform(get("/holidays")
@@ -89,7 +92,7 @@ class HolidayControllerTest {
                 .andExpect(jsonPath("$[0].englishName").value("New Year's Day"));
 
         ArgumentCaptor<Integer> yearCaptor = ArgumentCaptor.forClass(Integer.class);
-        verify(holidayService).getPublicHolidays(yearCaptor.capture());
+        verify(holidayService).getPublicHolidays(isNull(), yearCaptor.capture());
         assertThat(yearCaptor.getValue()).isEqualTo(currentYear);
     }
 
@@ -117,7 +120,7 @@ class HolidayControllerTest {
                 true
         );
 
-        when(holidayService.getPublicHolidays(year)).thenReturn(List.of(domainHoliday));
+        when(holidayService.getPublicHolidays(null, year)).thenReturn(List.of(domainHoliday));
         when(holidayApiMapper.toResponse(domainHoliday)).thenReturn(responseDto);
 
         mockMvc.perform(get("/holidays")
@@ -127,13 +130,13 @@ class HolidayControllerTest {
                 .andExpect(jsonPath("$[0].date").value(date.toString()))
                 .andExpect(jsonPath("$[0].localName").value("Nepriklausomybės atkūrimo diena"));
 
-        verify(holidayService).getPublicHolidays(year);
+        verify(holidayService).getPublicHolidays(null, year);
     }
 
     @Test
     @DisplayName("GET /holidays should return empty array when service returns no holidays")
     void getHolidays_returnsEmptyArrayWhenServiceEmpty() throws Exception {
-        when(holidayService.getPublicHolidays(anyInt())).thenReturn(List.of());
+        when(holidayService.getPublicHolidays(isNull(), anyInt())).thenReturn(List.of());
 
         mockMvc.perform(get("/holidays")
                         .accept(MediaType.APPLICATION_JSON))
@@ -141,7 +144,29 @@ class HolidayControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(holidayService).getPublicHolidays(anyInt());
+        verify(holidayService).getPublicHolidays(isNull(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /holidays?country=LV should pass the country to the service")
+    void getHolidays_withCountry_usesProvidedCountry() throws Exception {
+        LocalDate date = LocalDate.of(2025, 11, 18);
+        var domainHoliday = new PublicHoliday(date, "Latvijas Republikas proklamēšanas diena",
+                "Proclamation Day of the Republic of Latvia", "LV", "Public", true);
+        var responseDto = new PublicHolidayResponse(date, "Latvijas Republikas proklamēšanas diena",
+                "Proclamation Day of the Republic of Latvia", "LV", "Public", true);
+
+        when(holidayService.getPublicHolidays("LV", 2025)).thenReturn(List.of(domainHoliday));
+        when(holidayApiMapper.toResponse(domainHoliday)).thenReturn(responseDto);
+
+        mockMvc.perform(get("/holidays")
+                        .param("year", "2025")
+                        .param("country", "LV")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].countryCode").value("LV"));
+
+        verify(holidayService).getPublicHolidays("LV", 2025);
     }
 
     @Test
@@ -154,4 +179,35 @@ class HolidayControllerTest {
 
         verifyNoInteractions(holidayService);
     }
-}
+
+    @Test
+    @DisplayName("GET /holidays/check should return a flag for each requested date")
+    void checkHolidays_returnsFlagPerDate() throws Exception {
+        Map<LocalDate, Boolean> flags = new LinkedHashMap<>();
+        flags.put(LocalDate.of(2025, 2, 16), true);
+        flags.put(LocalDate.of(2025, 2, 17), false);
+        when(holidayService.checkPublicHolidays(null, List.of(LocalDate.of(2025, 2, 16), LocalDate.of(2025, 2, 17))))
+                .thenReturn(flags);
+
+        mockMvc.perform(get("/holidays/check")
+                        .param("dates", "2025-02-16,2025-02-17")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].date").value("2025-02-16"))
+                .andExpect(jsonPath("$[0].holiday").value(true))
+                .andExpect(jsonPath("$[1].date").value("2025-02-17"))
+                .andExpect(jsonPath("$[1].holiday").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /holidays/check should return 400 for an invalid date")
+    void checkHolidays_invalidDate_returns400() throws Exception {
+        mockMvc.perform(get("/holidays/check")
+                        .param("dates", "2025-02-30")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(holidayService);
+    }
+}
\ No newline at end of file
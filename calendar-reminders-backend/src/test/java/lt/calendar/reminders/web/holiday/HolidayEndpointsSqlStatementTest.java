@@ -0,0 +1,75 @@
+package lt.calendar.reminders.web.holiday;
+
+import lt.calendar.reminders.infrastructure.persistence.sql.SqlStatementCountExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static lt.calendar.reminders.infrastructure.persistence.sql.SqlStatementCounts.none;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Holiday and working-day endpoints against the full context with offline holidays: none of them may touch the database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "mocknager"})
+class HolidayEndpointsSqlStatementTest {
+
+    @RegisterExtension
+    final SqlStatementCountExtension sql = new SqlStatementCountExtension();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /holidays should not issue any SQL")
+    void getHolidays_issuesNoSql() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/holidays")
+                        .param("year", "2025")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2025-01-01")));
+    }
+
+    @Test
+    @DisplayName("GET /holidays/check should not issue any SQL")
+    void checkHolidays_issuesNoSql() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/holidays/check")
+                        .param("dates", "2025-02-16,2025-02-17")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].holiday").value(true))
+                .andExpect(jsonPath("$[1].holiday").value(false)));
+    }
+
+    @Test
+    @DisplayName("GET /working-days/add should not issue any SQL")
+    void addWorkingDays_issuesNoSql() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/working-days/add")
+                        .param("date", "2025-02-14")
+                        .param("days", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value("2025-02-17")));
+    }
+
+    @Test
+    @DisplayName("GET /working-days/count should not issue any SQL")
+    void countWorkingDays_issuesNoSql() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/working-days/count")
+                        .param("from", "2025-02-10")
+                        .param("to", "2025-02-16")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workingDays").value(4)));
+    }
+}
@@ -0,0 +1,98 @@
+package lt.calendar.reminders.web.holiday;
+
+import lt.calendar.reminders.application.exception.BusinessRuleViolationException;
+import lt.calendar.reminders.application.holiday.WorkingDayService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(WorkingDayController.class)
+class WorkingDayControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WorkingDayService workingDayService;
+
+    @MockitoBean
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+        when(clock.instant()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("GET /working-days/add should return the shifted date")
+    void addWorkingDays_returnsResult() throws Exception {
+        when(workingDayService.addWorkingDays(LocalDate.of(2025, 2, 14), 1)).thenReturn(LocalDate.of(2025, 2, 18));
+
+        mockMvc.perform(get("/working-days/add")
+                        .param("date", "2025-02-14")
+                        .param("days", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2025-02-14"))
+                .andExpect(jsonPath("$.days").value(1))
+                .andExpect(jsonPath("$.result").value("2025-02-18"));
+    }
+
+    @Test
+    @DisplayName("GET /working-days/count should return the number of working days")
+    void countWorkingDays_returnsCount() throws Exception {
+        when(workingDayService.countWorkingDays(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))).thenReturn(22);
+
+        mockMvc.perform(get("/working-days/count")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2025-01-01"))
+                .andExpect(jsonPath("$.to").value("2025-01-31"))
+                .andExpect(jsonPath("$.workingDays").value(22));
+    }
+
+    @Test
+    @DisplayName("GET /working-days/add should return 400 when service rejects the request")
+    void addWorkingDays_ruleViolation_returns400() throws Exception {
+        when(workingDayService.addWorkingDays(any(), anyInt()))
+                .thenThrow(new BusinessRuleViolationException("Number of working days must be between -2500 and 2500"));
+
+        mockMvc.perform(get("/working-days/add")
+                        .param("date", "2025-01-01")
+                        .param("days", "9999")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /working-days/count should return 400 for an invalid date")
+    void countWorkingDays_invalidDate_returns400() throws Exception {
+        mockMvc.perform(get("/working-days/count")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-13-01")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(workingDayService);
+    }
+}
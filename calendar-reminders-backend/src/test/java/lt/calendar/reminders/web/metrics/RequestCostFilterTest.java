@@ -0,0 +1,155 @@
+package lt.calendar.reminders.web.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCostFilterTest {
+
+    private static final int PAYLOAD_BYTES = 256 * 1024;
+
+    private SimpleMeterRegistry registry;
+    private RequestCostProperties properties;
+    private RequestCostFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new RequestCostProperties();
+        filter = new RequestCostFilter(registry, properties);
+    }
+
+    @Test
+    @DisplayName("allocated bytes and CPU time should be recorded per route template")
+    void doFilter_recordsCostPerRoute() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reminders/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new AllocatingServlet("/reminders/{id}")));
+
+        DistributionSummary allocated = registry.get(RequestCostFilter.ALLOCATED_METRIC)
+                .tags("method", "GET", "uri", "/reminders/{id}", "status", "200")
+                .summary();
+        assertThat(allocated.count()).isEqualTo(1);
+        assertThat(allocated.totalAmount()).isGreaterThanOrEqualTo(PAYLOAD_BYTES);
+        Timer cpu = registry.get(RequestCostFilter.CPU_METRIC).tag("uri", "/reminders/{id}").timer();
+        assertThat(cpu.count()).isEqualTo(1);
+        assertThat(response.getHeader(RequestCostFilter.ALLOCATED_BYTES_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("requests without a matched handler should not use the raw path as a tag")
+    void doFilter_unmatchedRequest_usesNotFound() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/no/such/path");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(404);
+            }
+        }));
+
+        assertThat(registry.get(RequestCostFilter.ALLOCATED_METRIC).tag("uri", "NOT_FOUND").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a client asking for the cost should get it as headers when they are enabled")
+    void doFilter_costRequested_setsHeaders() throws Exception {
+        properties.setHeadersEnabled(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reminders/42");
+        request.addHeader(RequestCostFilter.REQUEST_COST_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new AllocatingServlet("/reminders/{id}")));
+
+        assertThat(Long.parseLong(response.getHeader(RequestCostFilter.ALLOCATED_BYTES_HEADER)))
+                .isGreaterThanOrEqualTo(PAYLOAD_BYTES);
+        assertThat(response.getHeader(RequestCostFilter.CPU_MICROS_HEADER)).isNotNull();
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+        assertThat(registry.find(RequestCostFilter.ALLOCATED_METRIC).summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("a streaming response should pass straight through and be measured instead of getting headers")
+    void doFilter_costRequestedOnStream_doesNotBuffer() throws Exception {
+        properties.setHeadersEnabled(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reminders/export");
+        request.addHeader(RequestCostFilter.REQUEST_COST_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        StringBuilder flushedBeforeEnd = new StringBuilder();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/reminders/export");
+                resp.setContentType("application/x-ndjson;charset=UTF-8");
+                resp.getOutputStream().write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                resp.flushBuffer();
+                flushedBeforeEnd.append(response.getContentAsString());
+            }
+        }));
+
+        assertThat(flushedBeforeEnd.toString()).isEqualTo("{\"id\":1}\n");
+        assertThat(response.getHeader(RequestCostFilter.ALLOCATED_BYTES_HEADER)).isNull();
+        assertThat(registry.get(RequestCostFilter.ALLOCATED_METRIC).tag("uri", "/reminders/export").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("repeated requests to a route should record into the same meters")
+    void doFilter_repeatedRoute_reusesMeters() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/reminders/" + i), new MockHttpServletResponse(),
+                    new MockFilterChain(new AllocatingServlet("/reminders/{id}")));
+        }
+
+        assertThat(registry.get(RequestCostFilter.ALLOCATED_METRIC).summaries()).hasSize(1);
+        assertThat(registry.get(RequestCostFilter.ALLOCATED_METRIC).summary().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("the cost request header should be ignored unless headers are enabled")
+    void doFilter_headersDisabled_ignoresCostRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reminders/42");
+        request.addHeader(RequestCostFilter.REQUEST_COST_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new AllocatingServlet("/reminders/{id}")));
+
+        assertThat(response.getHeader(RequestCostFilter.ALLOCATED_BYTES_HEADER)).isNull();
+        assertThat(registry.get(RequestCostFilter.ALLOCATED_METRIC).summary().count()).isEqualTo(1);
+    }
+
+    private static final class AllocatingServlet extends HttpServlet {
+
+        private final String pattern;
+
+        private AllocatingServlet(String pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            byte[] payload = new byte[PAYLOAD_BYTES];
+            resp.getWriter().write(payload.length > 0 ? "ok" : "");
+        }
+    }
+}
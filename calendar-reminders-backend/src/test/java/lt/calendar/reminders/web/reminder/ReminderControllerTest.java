@@ -3,26 +3,38 @@ package lt.calendar.reminders.web.reminder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lt.calendar.reminders.application.reminder.DateRangePolicy;
 import lt.calendar.reminders.application.reminder.ReminderDateRange;
+import lt.calendar.reminders.infrastructure.persistence.sql.SqlStatementCountExtension;
+import lt.calendar.reminders.web.reminder.dto.ReminderBatchRequest;
 import lt.calendar.reminders.web.reminder.dto.ReminderRequest;
+import lt.calendar.reminders.web.reminder.dto.ReminderRescheduleRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
 
+import static lt.calendar.reminders.infrastructure.persistence.sql.SqlStatementCounts.none;
+import static lt.calendar.reminders.infrastructure.persistence.sql.SqlStatementCounts.of;
+import static lt.calendar.reminders.infrastructure.persistence.sql.SqlStatementCounts.selects;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +43,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles("test")
 class ReminderControllerTest {
 
+    // exact statement budgets per endpoint; id sequence fetches are not counted
+    @RegisterExtension
+    final SqlStatementCountExtension sql = new SqlStatementCountExtension();
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -82,14 +98,14 @@ class ReminderControllerTest {
 
         String json = objectMapper.writeValueAsString(request);
 
-        mockMvc.perform(post("/reminders")
+        sql.assertStatements(of(0, 1, 0, 0), () -> mockMvc.perform(post("/reminders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").exists())
                 .andExpect(jsonPath("$.text").value("Interview practice"))
                 .andExpect(jsonPath("$.date").value(todayOrFuture.toString()))
-                .andExpect(jsonPath("$.time").value(time.toString()));
+                .andExpect(jsonPath("$.time").value(time.toString())));
     }
 
     @Test
@@ -102,10 +118,10 @@ class ReminderControllerTest {
 
         createReminderViaApi(uniqueText, date, time);
 
-        mockMvc.perform(get("/reminders")
+        sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$").isArray()));
     }
 
     @Test
@@ -117,12 +133,12 @@ class ReminderControllerTest {
 
         createReminderViaApi(uniqueText, date, time);
 
-        mockMvc.perform(get("/reminders")
+        sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders")
                         .param("date", date.toString())
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[?(@.text == '%s')]", uniqueText).exists());
+                .andExpect(jsonPath("$[?(@.text == '%s')]", uniqueText).exists()));
     }
 
     @Test
@@ -138,13 +154,13 @@ class ReminderControllerTest {
 
         String updateJson = objectMapper.writeValueAsString(updateRequest);
 
-        mockMvc.perform(put("/reminders/{id}", id)
+        sql.assertStatements(of(1, 0, 1, 0), () -> mockMvc.perform(put("/reminders/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(updateJson))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(id))
                 .andExpect(jsonPath("$.text").value("Updated text"))
-                .andExpect(jsonPath("$.time").value("12:00"));
+                .andExpect(jsonPath("$.time").value("12:00")));
     }
 
     @Test
@@ -156,8 +172,8 @@ class ReminderControllerTest {
 
         Long id = createReminderViaApi(uniqueText, date, time);
 
-        mockMvc.perform(delete("/reminders/{id}", id))
-                .andExpect(status().isNoContent());
+        sql.assertStatements(of(1, 0, 0, 1), () -> mockMvc.perform(delete("/reminders/{id}", id))
+                .andExpect(status().isNoContent()));
 
         String responseBody = mockMvc.perform(get("/reminders")
                         .param("date", date.toString())
@@ -177,10 +193,10 @@ class ReminderControllerTest {
         ReminderRequest request = buildValidRequest("   ", date, time);
         String json = objectMapper.writeValueAsString(request);
 
-        mockMvc.perform(post("/reminders")
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest()));
     }
 
     @Test
@@ -195,10 +211,10 @@ class ReminderControllerTest {
 
         String json = objectMapper.writeValueAsString(request);
 
-        mockMvc.perform(post("/reminders")
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest()));
     }
 
     @Test
@@ -213,10 +229,10 @@ class ReminderControllerTest {
 
         String json = objectMapper.writeValueAsString(request);
 
-        mockMvc.perform(post("/reminders")
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest()));
     }
 
     @Test
@@ -229,14 +245,14 @@ class ReminderControllerTest {
 
         String json = objectMapper.writeValueAsString(request);
 
-        mockMvc.perform(post("/reminders")
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.error").value("Bad Request"))
                 .andExpect(jsonPath("$.message").value("Reminder date is outside the allowed range"))
-                .andExpect(jsonPath("$.path").value("/reminders"));
+                .andExpect(jsonPath("$.path").value("/reminders")));
     }
 
     @Test
@@ -249,10 +265,10 @@ class ReminderControllerTest {
 
         String json = objectMapper.writeValueAsString(request);
 
-        mockMvc.perform(post("/reminders")
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest()));
     }
 
     @Test
@@ -263,11 +279,11 @@ class ReminderControllerTest {
         LocalDate minDate = range.minDate();
         LocalDate maxDate = range.maxDate();
 
-        mockMvc.perform(get("/reminders/range")
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders/range")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.minDate").value(minDate.toString()))
-                .andExpect(jsonPath("$.maxDate").value(maxDate.toString()));
+                .andExpect(jsonPath("$.maxDate").value(maxDate.toString())));
     }
 
     @Test
@@ -289,9 +305,9 @@ class ReminderControllerTest {
         LocalDate otherDate = targetDate.plusDays(1);
         createReminderViaApi(otherText, otherDate, LocalTime.of(13, 0));
 
-        mockMvc.perform(delete("/reminders")
+        sql.assertStatements(of(0, 0, 0, 1), () -> mockMvc.perform(delete("/reminders")
                         .param("date", targetDate.toString()))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent()));
 
         // Target date should now have no reminders
         mockMvc.perform(get("/reminders")
@@ -327,14 +343,14 @@ class ReminderControllerTest {
 
         String json = objectMapper.writeValueAsString(updateRequest);
 
-        mockMvc.perform(put("/reminders/{id}", id)
+        sql.assertStatements(none(), () -> mockMvc.perform(put("/reminders/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.error").value("Bad Request"))
                 .andExpect(jsonPath("$.message").value("Reminder date is outside the allowed range"))
-                .andExpect(jsonPath("$.path").value("/reminders/" + id));
+                .andExpect(jsonPath("$.path").value("/reminders/" + id)));
     }
 
     @Test
@@ -352,14 +368,14 @@ class ReminderControllerTest {
 
         String json = objectMapper.writeValueAsString(updateRequest);
 
-        mockMvc.perform(put("/reminders/{id}", id)
+        sql.assertStatements(none(), () -> mockMvc.perform(put("/reminders/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.error").value("Bad Request"))
                 .andExpect(jsonPath("$.message").value("Reminder date is outside the allowed range"))
-                .andExpect(jsonPath("$.path").value("/reminders/" + id));
+                .andExpect(jsonPath("$.path").value("/reminders/" + id)));
     }
 
     @Test
@@ -374,14 +390,447 @@ class ReminderControllerTest {
 
         long nonExistingId = 999_999L;
 
-        mockMvc.perform(put("/reminders/{id}", nonExistingId)
+        sql.assertStatements(selects(1), () -> mockMvc.perform(put("/reminders/{id}", nonExistingId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(json))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(404))
                 .andExpect(jsonPath("$.error").value("Not Found"))
                 .andExpect(jsonPath("$.message").value("Reminder not found with id: " + nonExistingId))
-                .andExpect(jsonPath("$.path").value("/reminders/" + nonExistingId));
+                .andExpect(jsonPath("$.path").value("/reminders/" + nonExistingId)));
+    }
+
+    @Test
+    @DisplayName("GET /reminders?from&to&limit - should page through range with cursor")
+    void getReminders_withRangeAndLimit_pagesWithCursor() throws Exception {
+        LocalDate date = dateRangePolicy.getMinDate().plusDays(200);
+        String prefix = "Paged-" + System.currentTimeMillis();
+
+        createReminderViaApi(prefix + "-1", date, LocalTime.of(8, 0));
+        createReminderViaApi(prefix + "-2", date, LocalTime.of(9, 0));
+        createReminderViaApi(prefix + "-3", date.plusDays(1), LocalTime.of(7, 0));
+
+        MvcResult firstPage = sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders")
+                        .param("from", date.toString())
+                        .param("to", date.plusDays(1).toString())
+                        .param("limit", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(ReminderController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].text").value(prefix + "-1"))
+                .andExpect(jsonPath("$[1].text").value(prefix + "-2"))
+                .andReturn());
+
+        String cursor = firstPage.getResponse().getHeader(ReminderController.NEXT_CURSOR_HEADER);
+
+        sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders")
+                        .param("from", date.toString())
+                        .param("to", date.plusDays(1).toString())
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ReminderController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].text").value(prefix + "-3")));
+    }
+
+    @Test
+    @DisplayName("GET /reminders?cursor=garbage - should return 400")
+    void getReminders_invalidCursor_returns400() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders")
+                        .param("cursor", "not-a-cursor")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor")));
+    }
+
+    @Test
+    @DisplayName("GET /reminders?limit=0 - should return 400")
+    void getReminders_invalidLimit_returns400() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders")
+                        .param("limit", "0")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest()));
+    }
+
+    @Test
+    @DisplayName("GET /reminders/overview - should return per-day counts kept in sync with writes")
+    void getOverview_shouldReturnPerDayCounts() throws Exception {
+        LocalDate date = dateRangePolicy.getMinDate().plusDays(250);
+        String prefix = "Overview-" + System.currentTimeMillis();
+
+        createReminderViaApi(prefix + "-1", date, LocalTime.of(8, 0));
+        Long secondId = createReminderViaApi(prefix + "-2", date, LocalTime.of(9, 0));
+
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders/overview")
+                        .param("from", date.toString())
+                        .param("to", date.toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].date").value(date.toString()))
+                .andExpect(jsonPath("$[0].count").value(2)));
+
+        mockMvc.perform(delete("/reminders/{id}", secondId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/reminders/overview")
+                        .param("from", date.toString())
+                        .param("to", date.toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(1));
+
+        mockMvc.perform(delete("/reminders")
+                        .param("date", date.toString()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/reminders/overview")
+                        .param("from", date.toString())
+                        .param("to", date.toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /reminders/export - should stream one JSON reminder per line")
+    void exportReminders_shouldStreamNdjson() throws Exception {
+        LocalDate date = dateRangePolicy.getMinDate().plusDays(150);
+        String uniqueText = "Export-" + System.currentTimeMillis();
+
+        Long id = createReminderViaApi(uniqueText, date, LocalTime.of(16, 45));
+
+        String body = sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders/export")
+                        .accept(ReminderController.NDJSON_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ReminderController.NDJSON_MEDIA_TYPE))
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+
+        assertThat(body).endsWith("\n");
+
+        String[] lines = body.split("\n");
+        assertThat(lines).allSatisfy(line -> assertThat(objectMapper.readTree(line).has("id")).isTrue());
+
+        String exportedLine = Arrays.stream(lines)
+                .filter(line -> line.contains(uniqueText))
+                .findFirst()
+                .orElseThrow();
+
+        var node = objectMapper.readTree(exportedLine);
+        assertThat(node.get("id").asLong()).isEqualTo(id);
+        assertThat(node.get("date").asText()).isEqualTo(date.toString());
+        assertThat(node.get("time").asText()).isEqualTo("16:45");
+    }
+
+    @Test
+    @DisplayName("POST /reminders/batch - should create all reminders and allow multi-get by ids and dates")
+    void createRemindersBatch_shouldCreateAllAndMultiGet() throws Exception {
+        LocalDate date = dateRangePolicy.getMinDate().plusDays(120);
+        String prefix = "Batch-" + System.currentTimeMillis();
+
+        ReminderBatchRequest batch = new ReminderBatchRequest();
+        batch.setReminders(List.of(
+                buildValidRequest(prefix + "-1", date, LocalTime.of(9, 0)),
+                buildValidRequest(prefix + "-2", date.plusDays(1), LocalTime.of(8, 0))
+        ));
+
+        String responseBody = sql.assertStatements(of(0, 1, 0, 0), () -> mockMvc.perform(post("/reminders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].text").value(prefix + "-1"))
+                .andExpect(jsonPath("$[1].text").value(prefix + "-2"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+
+        long firstId = objectMapper.readTree(responseBody).get(0).get("id").asLong();
+        long secondId = objectMapper.readTree(responseBody).get(1).get("id").asLong();
+
+        sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders/batch")
+                        .param("ids", secondId + "," + firstId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(firstId))
+                .andExpect(jsonPath("$[1].id").value(secondId)));
+
+        sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders/batch")
+                        .param("dates", date.plusDays(1).toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.text == '%s')]", prefix + "-2").exists())
+                .andExpect(jsonPath("$[?(@.text == '%s')]", prefix + "-1").doesNotExist()));
+    }
+
+    @Test
+    @DisplayName("POST /reminders/batch - should reject the whole batch when one date is out of range")
+    void createRemindersBatch_shouldReturn400WhenAnyDateOutOfRange() throws Exception {
+        LocalDate min = dateRangePolicy.getMinDate();
+        String text = "BatchRejected-" + System.currentTimeMillis();
+
+        ReminderBatchRequest batch = new ReminderBatchRequest();
+        batch.setReminders(List.of(
+                buildValidRequest(text, min.plusDays(1), LocalTime.of(9, 0)),
+                buildValidRequest(text, min.minusDays(1), LocalTime.of(9, 0))
+        ));
+
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Reminder date is outside the allowed range at indexes [1]")));
+
+        mockMvc.perform(get("/reminders")
+                        .param("date", min.plusDays(1).toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.text == '%s')]", text).doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /reminders/batch - should return 400 with field errors for invalid items")
+    void createRemindersBatch_shouldReturn400ForInvalidItem() throws Exception {
+        ReminderBatchRequest batch = new ReminderBatchRequest();
+        batch.setReminders(List.of(buildValidRequest(" ", dateRangePolicy.getMinDate(), LocalTime.NOON)));
+
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors['reminders[0].text']").exists()));
+    }
+
+    @Test
+    @DisplayName("GET /reminders/batch - should return 400 unless exactly one of ids or dates is given")
+    void getRemindersBatch_shouldReturn400WithoutSingleSelector() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders/batch")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest()));
+
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders/batch")
+                        .param("ids", "1")
+                        .param("dates", dateRangePolicy.getMinDate().toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest()));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("DELETE /reminders/bulk?from&to - should delete range and report affected rows")
+    void deleteRemindersBetween_shouldReportAffectedRows() throws Exception {
+        LocalDate from = dateRangePolicy.getMinDate().plusDays(300);
+        LocalDate to = from.plusDays(2);
+        String prefix = "BulkDelete-" + System.currentTimeMillis();
+
+        createReminderViaApi(prefix + "-1", from, LocalTime.of(8, 0));
+        createReminderViaApi(prefix + "-2", to, LocalTime.of(8, 0));
+        createReminderViaApi(prefix + "-keep", to.plusDays(1), LocalTime.of(8, 0));
+
+        // one keyset SELECT, one DELETE per day that has rows
+        sql.assertStatements(of(1, 0, 0, 2), () -> mockMvc.perform(delete("/reminders/bulk")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2)));
+
+        mockMvc.perform(get("/reminders")
+                        .param("from", from.toString())
+                        .param("to", to.plusDays(1).toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].text").value(prefix + "-keep"));
+    }
+
+    @Test
+    @DisplayName("DELETE /reminders/bulk?from&to - should return 400 when the range is longer than allowed")
+    void deleteRemindersBetween_shouldReturn400WhenRangeTooLong() throws Exception {
+        sql.assertStatements(none(), () -> mockMvc.perform(delete("/reminders/bulk")
+                        .param("from", "0001-01-01")
+                        .param("to", "9999-12-31"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Date range must not span more than 366 days")));
+    }
+
+    @Test
+    @DisplayName("POST /reminders/reschedule - should move all reminders of a day")
+    void rescheduleReminders_shouldMoveAllRemindersOfDay() throws Exception {
+        LocalDate source = dateRangePolicy.getMinDate().plusDays(310);
+        LocalDate target = source.plusDays(3);
+        String prefix = "Reschedule-" + System.currentTimeMillis();
+
+        createReminderViaApi(prefix + "-1", source, LocalTime.of(8, 0));
+        createReminderViaApi(prefix + "-2", source, LocalTime.of(9, 0));
+
+        ReminderRescheduleRequest request = new ReminderRescheduleRequest();
+        request.setFromDate(source);
+        request.setToDate(target);
+
+        sql.assertStatements(of(0, 0, 1, 0), () -> mockMvc.perform(post("/reminders/reschedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2)));
+
+        mockMvc.perform(get("/reminders")
+                        .param("date", target.toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        mockMvc.perform(get("/reminders/overview")
+                        .param("from", source.toString())
+                        .param("to", target.toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].date").value(target.toString()))
+                .andExpect(jsonPath("$[0].count").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /reminders/reschedule - should return 400 when target date is out of range")
+    void rescheduleReminders_shouldReturn400WhenTargetOutOfRange() throws Exception {
+        ReminderRescheduleRequest request = new ReminderRescheduleRequest();
+        request.setFromDate(dateRangePolicy.getMinDate());
+        request.setToDate(dateRangePolicy.getMinDate().minusDays(1));
+
+        sql.assertStatements(none(), () -> mockMvc.perform(post("/reminders/reschedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Reminder date is outside the allowed range")));
+    }
+
+    @Test
+    @DisplayName("PUT /reminders/{id} with If-Match - should update matching version and reject stale one")
+    void updateReminder_withIfMatch_checksVersion() throws Exception {
+        LocalDate date = dateRangePolicy.getMinDate().plusDays(6);
+        Long id = createReminderViaApi("Versioned-" + System.currentTimeMillis(), date, LocalTime.of(10, 0));
+
+        String json = objectMapper.writeValueAsString(buildValidRequest("First update", date, LocalTime.of(11, 0)));
+
+        sql.assertStatements(of(0, 0, 1, 0), () -> mockMvc.perform(put("/reminders/{id}", id)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.createdAt").exists()));
+
+        sql.assertStatements(of(1, 0, 1, 0), () -> mockMvc.perform(put("/reminders/{id}", id)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412)));
+
+        sql.assertStatements(of(1, 0, 0, 1), () -> mockMvc.perform(delete("/reminders/{id}", id)
+                        .header("If-Match", "\"0\""))
+                .andExpect(status().isPreconditionFailed()));
+
+        mockMvc.perform(delete("/reminders/{id}", id)
+                        .header("If-Match", "\"1\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("PUT /reminders/{id} with If-Match - should reject weak tags and accept a list containing the current version")
+    void updateReminder_withIfMatch_usesStrongComparisonOverList() throws Exception {
+        LocalDate date = dateRangePolicy.getMinDate().plusDays(8);
+        Long id = createReminderViaApi("Weak-" + System.currentTimeMillis(), date, LocalTime.of(10, 0));
+
+        String json = objectMapper.writeValueAsString(buildValidRequest("Listed update", date, LocalTime.of(11, 0)));
+
+        sql.assertStatements(selects(1), () -> mockMvc.perform(put("/reminders/{id}", id)
+                        .header("If-Match", "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isPreconditionFailed()));
+
+        sql.assertStatements(of(1, 0, 1, 0), () -> mockMvc.perform(put("/reminders/{id}", id)
+                        .header("If-Match", "W/\"1\", \"5\", \"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\"")));
+
+        sql.assertStatements(of(1, 0, 0, 1), () -> mockMvc.perform(delete("/reminders/{id}", id)
+                        .header("If-Match", "\"0\", W/\"1\""))
+                .andExpect(status().isPreconditionFailed()));
+
+        mockMvc.perform(delete("/reminders/{id}", id)
+                        .header("If-Match", "\"0\", \"1\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("DELETE /reminders/{id} - should return 404 when reminder not found")
+    void deleteReminder_shouldReturn404WhenIdNotFound() throws Exception {
+        sql.assertStatements(selects(1), () -> mockMvc.perform(delete("/reminders/{id}", 999_999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Reminder not found with id: 999999")));
+    }
+
+
+    @Test
+    @DisplayName("GET /reminders?date= with If-None-Match - should return 304 until the day changes")
+    void getRemindersByDate_withIfNoneMatch_returns304UntilDayChanges() throws Exception {
+        LocalDate date = dateRangePolicy.getMinDate().plusDays(320);
+        createReminderViaApi("Conditional-" + System.currentTimeMillis(), date, LocalTime.of(8, 0));
+
+        String eTag = sql.assertStatements(selects(1), () -> mockMvc.perform(get("/reminders")
+                        .param("date", date.toString())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag"));
+
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders")
+                        .param("date", date.toString())
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string("")));
+
+        createReminderViaApi("Conditional-second", date, LocalTime.of(9, 0));
+
+        mockMvc.perform(get("/reminders")
+                        .param("date", date.toString())
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(result -> assertThat(result.getResponse().getHeader("ETag")).isNotEqualTo(eTag));
+    }
+
+    @Test
+    @DisplayName("GET /reminders/range - should be cacheable until the next midnight")
+    void getAllowedDateRange_shouldBeCacheableUntilMidnight() throws Exception {
+        MvcResult result = mockMvc.perform(get("/reminders/range")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+
+        String cacheControl = result.getResponse().getHeader("Cache-Control");
+        assertThat(cacheControl).startsWith("max-age=");
+        assertThat(Long.parseLong(cacheControl.substring("max-age=".length()))).isBetween(0L, 25L * 3600);
+
+        sql.assertStatements(none(), () -> mockMvc.perform(get("/reminders/range")
+                        .header("If-None-Match", result.getResponse().getHeader("ETag"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified()));
+    }
+}
@@ -1,5 +1,5 @@
 import { httpClient } from "./httpClient";
-import type { Reminder, ReminderPayload } from "../types/reminder";
+import type { Reminder, ReminderDayCount, ReminderPayload } from "../types/reminder";
 import type { DateRange } from "../types/dateRange";
 
 export function getReminders(date?: string): Promise<Reminder[]> {
@@ -7,6 +7,10 @@ export function getReminders(date?: string): Promise<Reminder[]> {
     return httpClient.get<Reminder[]>(`/reminders${query}`);
 }
 
+export function getRemindersOverview(): Promise<ReminderDayCount[]> {
+    return httpClient.get<ReminderDayCount[]>("/reminders/overview");
+}
+
 export function getAllowedDateRange(): Promise<DateRange> {
     return httpClient.get<DateRange>("/reminders/range");
 }
@@ -5,5 +5,11 @@ export interface Reminder {
     time: string;
     createdAt: string;
     updatedAt: string;
+    version: number;
+}
+export type ReminderPayload = Omit<Reminder, "id" | "createdAt" | "updatedAt" | "version">;
+
+export interface ReminderDayCount {
+    date: string;
+    count: number;
 }
-export type ReminderPayload = Omit<Reminder, "id" | "createdAt" | "updatedAt">;
\ No newline at end of file